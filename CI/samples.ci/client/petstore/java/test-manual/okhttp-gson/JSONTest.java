@@ -4,14 +4,18 @@ import com.google.gson.reflect.TypeToken;
 
 import org.openapitools.client.model.Order;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.Exception;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -186,6 +190,26 @@ public class JSONTest {
         assertEquals(expectedBytesAsString, new String(actualDeserializedBytes, StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void testStreamingSerialization() throws Exception {
+        order.setId(42L);
+        order.setQuantity(3);
+        order.setComplete(true);
+
+        StringWriter writer = new StringWriter();
+        json.serialize(order, writer);
+        assertEquals(json.serialize(order), writer.toString());
+
+        Order streamed = json.deserialize(new StringReader(writer.toString()), Order.class);
+        assertEquals(order, streamed);
+
+        Type listType = new TypeToken<List<Order>>() { }.getType();
+        List<Order> orders = json.deserialize(new StringReader("[" + writer + "," + writer + "]"), listType);
+        assertEquals(Arrays.asList(order, order), orders);
+
+        assertNull(json.deserialize(new StringReader(""), Order.class));
+    }
+
     // Obtained 22JAN2018 from stackoverflow answer by PuguaSoft https://stackoverflow.com/questions/11399491/java-timezone-offset
     // Direct link https://stackoverflow.com/a/16680815/3166133
     public static String getCurrentTimezoneOffset() {
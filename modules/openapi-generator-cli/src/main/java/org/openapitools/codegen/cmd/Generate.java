@@ -167,6 +167,10 @@ public class Generate implements Runnable {
     @Option(name = {"--library"}, title = "library", description = CodegenConstants.LIBRARY_DESC)
     private String library;
 
+    @Option(name = {"--engine"}, title = "templating engine",
+            description = CodegenConstants.TEMPLATING_ENGINE_DESC)
+    private String templatingEngine;
+
     @Option(name = {"--git-user-id"}, title = "git user id",
             description = CodegenConstants.GIT_USER_ID_DESC)
     private String gitUserId;
@@ -314,6 +318,10 @@ public class Generate implements Runnable {
             configurator.setLibrary(library);
         }
 
+        if (isNotEmpty(templatingEngine)) {
+            configurator.setTemplatingEngineName(templatingEngine);
+        }
+
         if (isNotEmpty(gitUserId)) {
             configurator.setGitUserId(gitUserId);
         }
@@ -17,15 +17,31 @@
 
 package org.openapitools.codegen.cmd;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airlift.airline.Command;
 import io.airlift.airline.Option;
 
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.validation.NameCollisionRule;
+import org.openapitools.codegen.validation.SpecIndex;
+import org.openapitools.codegen.validation.SpecValidator;
+import org.openapitools.codegen.validation.ValidationIssue;
+import org.openapitools.codegen.validation.ValidationReport;
+import org.openapitools.codegen.validation.ValidationRule;
 
-import java.util.HashSet;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -39,28 +55,69 @@ public class Validate implements Runnable {
     @Option(name = { "--recommend"}, title = "recommend spec improvements")
     private Boolean recommend;
 
+    @Option(name = {"-g", "--generator-name"}, title = "generator name",
+            description = "generator whose naming rules are used to detect name collisions with --recommend (default: the generic naming rules)")
+    private String generatorName;
+
+    @Option(name = {"--threads"}, title = "threads",
+            description = "number of threads used to run the recommendation rules (default: number of processors)")
+    private Integer threads;
+
+    @Option(name = {"--incremental"}, title = "index file",
+            description = "file storing the index of the spec between runs. When it exists, --recommend only re-checks "
+                    + "the paths and components which changed since the previous run. The file is created or updated.")
+    private String incremental;
+
+    @Option(name = {"--format"}, title = "output format",
+            description = "output format, text (default) or json")
+    private String format;
+
     @Override
     public void run() {
-        System.out.println("Validating spec (" + spec + ")");
+        boolean json = "json".equals(format);
+        if (!json) {
+            System.out.println("Validating spec (" + spec + ")");
+        }
 
         SwaggerParseResult result = new OpenAPIParser().readLocation(spec, null, null);
         List<String> messageList = result.getMessages();
-        Set<String> errors = new HashSet<String>(messageList);
-        Set<String> warnings = new HashSet<String>();
+        Set<String> errors = new LinkedHashSet<String>(messageList);
+        Set<String> warnings = new LinkedHashSet<String>();
+        ValidationReport report = null;
 
         StringBuilder sb = new StringBuilder();
         OpenAPI specification = result.getOpenAPI();
 
         if (Boolean.TRUE.equals(recommend)) {
             if (specification != null) {
-                // Add information about unused models to the warnings set.
-                List<String> unusedModels = ModelUtils.getUnusedSchemas(specification);
-                if (unusedModels != null) {
-                    unusedModels.forEach(name -> warnings.add("Unused model: " + name));
+                report = recommend(specification);
+                for (ValidationIssue issue : report.getIssues()) {
+                    if (issue.getSeverity() == ValidationIssue.Severity.ERROR) {
+                        errors.add(issue.getMessage() + " (" + issue.getLocation() + ")");
+                    } else {
+                        warnings.add(issue.getMessage());
+                    }
                 }
             }
         }
 
+        if (json) {
+            ObjectNode root = report != null ? report.toJson() : Json.mapper().createObjectNode();
+            root.put("spec", spec);
+            ArrayNode parserMessages = root.putArray("parserMessages");
+            messageList.forEach(parserMessages::add);
+            root.put("valid", errors.isEmpty());
+            try {
+                System.out.println(Json.pretty().writeValueAsString(root));
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write the validation report", e);
+            }
+            if (!errors.isEmpty()) {
+                System.exit(1);
+            }
+            return;
+        }
+
         if (errors.size() > 0) {
             sb.append("Errors:").append(System.lineSeparator());
             errors.forEach(msg ->
@@ -90,4 +147,35 @@ public class Validate implements Runnable {
 
         System.out.println(sb.toString());
     }
+
+    private ValidationReport recommend(OpenAPI specification) {
+        List<ValidationRule> rules = new ArrayList<ValidationRule>(SpecValidator.defaultRules());
+        if (generatorName != null) {
+            rules.removeIf(rule -> NameCollisionRule.ID.equals(rule.getId()));
+            rules.add(new NameCollisionRule(CodegenConfigLoader.forName(generatorName)));
+        }
+        int threadCount = threads != null ? threads : Runtime.getRuntime().availableProcessors();
+        SpecValidator validator = new SpecValidator(rules, threadCount);
+
+        if (incremental == null) {
+            return validator.validate(specification);
+        }
+
+        File indexFile = new File(incremental);
+        SpecIndex previous = null;
+        if (indexFile.isFile()) {
+            try (Reader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+                previous = SpecIndex.read(reader);
+            } catch (IOException e) {
+                System.err.println("[warn] Ignoring unreadable index file " + indexFile + ": " + e.getMessage());
+            }
+        }
+        ValidationReport report = validator.validateIncrementally(specification, previous);
+        try (Writer writer = Files.newBufferedWriter(indexFile.toPath(), StandardCharsets.UTF_8)) {
+            report.getIndex().write(writer);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write index file " + indexFile, e);
+        }
+        return report;
+    }
 }
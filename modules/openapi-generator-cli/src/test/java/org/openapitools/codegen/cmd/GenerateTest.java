@@ -504,6 +504,19 @@ public class GenerateTest {
         };
     }
 
+    @Test
+    public void testTemplatingEngine() throws Exception {
+        final String value = "mustache-precompiled";
+        setupAndRunGenericTest("--engine", value);
+
+        new FullVerifications() {
+            {
+                configurator.setTemplatingEngineName(value);
+                times = 1;
+            }
+        };
+    }
+
     private void setupAndRunTest(String specFlag, final String spec, String langFlag,
             final String lang, String outputDirFlag, final String outputDir,
             boolean configuratorFromFile, final String configFile, String... additionalParameters) {
@@ -27,7 +27,10 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
@@ -36,24 +39,54 @@ import org.slf4j.LoggerFactory;
 
 public abstract class AbstractGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGenerator.class);
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    // directories already known to exist, so that each parent directory is checked and created only once
+    private final Set<String> knownDirectories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Renders content directly into a {@link Writer}.
+     */
+    public interface ContentWriter {
+        void writeTo(Writer out) throws IOException;
+    }
 
-    @SuppressWarnings("static-method")
     public File writeToFile(String filename, String contents) throws IOException {
-        LOGGER.info("writing file " + filename);
+        return writeToFile(filename, out -> out.write(contents));
+    }
+
+    /**
+     * Write the content rendered by the given {@link ContentWriter} to a file, creating parent directories as needed.
+     *
+     * @param filename the output file name
+     * @param content renders the file contents
+     * @return the written file
+     * @throws IOException if the file cannot be written
+     */
+    public File writeToFile(String filename, ContentWriter content) throws IOException {
+        LOGGER.debug("writing file {}", filename);
         File output = new File(filename);
+        ensureParentDirectory(output);
 
-        if (output.getParent() != null && !new File(output.getParent()).exists()) {
-            File parent = new File(output.getParent());
-            parent.mkdirs();
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(output), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE)) {
+            content.writeTo(out);
         }
-        Writer out = new BufferedWriter(new OutputStreamWriter(
-                new FileOutputStream(output), "UTF-8"));
-
-        out.write(contents);
-        out.close();
         return output;
     }
 
+    /**
+     * Create the parent directory of the given file unless it was already created (or found) by an earlier call.
+     *
+     * @param output the file about to be written
+     */
+    protected void ensureParentDirectory(File output) {
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (parent != null && knownDirectories.add(parent.getPath()) && !parent.isDirectory()) {
+            parent.mkdirs();
+        }
+    }
+
     public String readTemplate(String name) {
         try {
             Reader reader = getTemplateReader(name);
@@ -25,6 +25,7 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariable;
+import org.openapitools.codegen.templating.TemplatingEngineAdapter;
 
 import java.io.File;
 import java.util.HashMap;
@@ -262,6 +263,10 @@ public interface CodegenConfig {
 
     public void setEnablePostProcessFile(boolean isEnablePostProcessFile);
 
+    TemplatingEngineAdapter getTemplatingEngine();
+
+    void setTemplatingEngine(TemplatingEngineAdapter templatingEngine);
+
     // set OpenAPI and schemas
     public void setGlobalOpenAPI(OpenAPI openAPI);
 
@@ -32,6 +32,8 @@ public class CodegenConstants {
     public static final String API_DOCS = "apiDocs";
     public static final String WITH_XML = "withXml";
     public static final String SKIP_FORM_MODEL = "skipFormModel";
+    public static final String WRITE_BEHIND_THREADS = "writeBehindThreads";
+    public static final String WRITE_BEHIND_QUEUE_SIZE = "writeBehindQueueSize";
     /* /end System Properties */
 
     public static final String API_PACKAGE = "apiPackage";
@@ -283,4 +285,13 @@ public class CodegenConstants {
     public static final String ENABLE_POST_PROCESS_FILE_DESC = "Enable post-processing file using environment variables.";
 
     public static final String OPEN_API_SPEC_NAME = "openAPISpecName";
+
+    public static final String EXAMPLE_MAX_ELEMENTS = "exampleMaxElements";
+    public static final String EXAMPLE_MAX_ELEMENTS_DESC = "Maximum number of elements in a generated request/response example. Arrays are shortened once it is reached.";
+
+    public static final String EXAMPLE_MAX_SIZE = "exampleMaxSize";
+    public static final String EXAMPLE_MAX_SIZE_DESC = "Maximum length (in characters) of a generated JSON example. Arrays are reduced to one item when it is exceeded.";
+
+    public static final String TEMPLATING_ENGINE = "templatingEngine";
+    public static final String TEMPLATING_ENGINE_DESC = "Templating engine used to render the templates: \"mustache\" (default) or \"mustache-precompiled\" (compiles each template once per run).";
 }
\ No newline at end of file
@@ -55,7 +55,12 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.openapitools.codegen.CodegenDiscriminator.MappedModel;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.openapitools.codegen.serializer.SerializerUtils;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
+import org.openapitools.codegen.templating.TemplatingEngineAdapter;
+import org.openapitools.codegen.templating.TemplatingEngineLoader;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.NameCache;
+import org.openapitools.codegen.utils.WriteBehindFileWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,6 +78,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
@@ -136,6 +142,25 @@ public class DefaultCodegen implements CodegenConfig {
     protected String ignoreFilePathOverride;
     // flag to indicate whether to use environment variable to post process file
     protected boolean enablePostProcessFile = false;
+    // engine used to render the templates of this generator
+    protected TemplatingEngineAdapter templatingEngine = new MustacheEngineAdapter();
+
+    // limits of generated request/response examples, see ExampleGenerator
+    protected int exampleMaxElements = ExampleGenerator.DEFAULT_MAX_ELEMENTS;
+    protected int exampleMaxSize = ExampleGenerator.DEFAULT_MAX_SIZE;
+    // shared by all operations so that examples are memoized across operations
+    private ExampleGenerator exampleGenerator;
+
+    // memoized name transformations, see nameCache(String)
+    private final List<NameCache> nameCaches = new ArrayList<NameCache>();
+    private Object[] nameCacheSettings;
+    private final NameCache sanitizeNameCache = nameCache("sanitizeName");
+    private final NameCache varNameCache = nameCache("toVarName");
+    private final NameCache paramNameCache = nameCache("toParamName");
+    private final NameCache modelNameCache = nameCache("toModelName");
+    private final NameCache modelFilenameCache = nameCache("toModelFilename");
+    private final NameCache apiNameCache = nameCache("toApiName");
+    private final NameCache getterAndSetterCache = nameCache("getterAndSetterCapitalize");
 
     // make openapi and schemas available to all methods
     protected OpenAPI globalOpenAPI;
@@ -206,6 +231,21 @@ public class DefaultCodegen implements CodegenConfig {
             this.setEnablePostProcessFile(Boolean.valueOf(additionalProperties
                     .get(CodegenConstants.ENABLE_POST_PROCESS_FILE).toString()));
         }
+
+        if (additionalProperties.containsKey(CodegenConstants.EXAMPLE_MAX_ELEMENTS)) {
+            this.setExampleMaxElements(Integer.parseInt(additionalProperties
+                    .get(CodegenConstants.EXAMPLE_MAX_ELEMENTS).toString()));
+        }
+
+        if (additionalProperties.containsKey(CodegenConstants.EXAMPLE_MAX_SIZE)) {
+            this.setExampleMaxSize(Integer.parseInt(additionalProperties
+                    .get(CodegenConstants.EXAMPLE_MAX_SIZE).toString()));
+        }
+
+        if (additionalProperties.containsKey(CodegenConstants.TEMPLATING_ENGINE)) {
+            this.setTemplatingEngine(TemplatingEngineLoader.byIdentifier(additionalProperties
+                    .get(CodegenConstants.TEMPLATING_ENGINE).toString()));
+        }
     }
 
     // override with any special post-processing for all models
@@ -768,7 +808,7 @@ public class DefaultCodegen implements CodegenConfig {
      * @return the file name of the model
      */
     public String toModelFilename(String name) {
-        return initialCaps(name);
+        return modelFilenameCache.get(name, n -> initialCaps(n));
     }
 
     /**
@@ -815,6 +855,10 @@ public class DefaultCodegen implements CodegenConfig {
      * @return the sanitized variable name
      */
     public String toVarName(String name) {
+        return varNameCache.get(name, this::computeVarName);
+    }
+
+    private String computeVarName(String name) {
         if (reservedWords.contains(name)) {
             return escapeReservedWord(name);
         } else if (((CharSequence) name).chars().anyMatch(character -> specialCharReplacements.keySet().contains("" + ((char) character)))) {
@@ -832,6 +876,10 @@ public class DefaultCodegen implements CodegenConfig {
      * @return the sanitized parameter name
      */
     public String toParamName(String name) {
+        return paramNameCache.get(name, this::computeParamName);
+    }
+
+    private String computeParamName(String name) {
         name = removeNonNameElementToCamelCase(name); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
         if (reservedWords.contains(name)) {
             return escapeReservedWord(name);
@@ -1519,10 +1567,12 @@ public class DefaultCodegen implements CodegenConfig {
      * @return capitalized Api name ending with "Api"
      */
     public String toApiName(String name) {
-        if (name.length() == 0) {
-            return "DefaultApi";
-        }
-        return initialCaps(name) + "Api";
+        return apiNameCache.get(name, n -> {
+            if (n.length() == 0) {
+                return "DefaultApi";
+            }
+            return initialCaps(n) + "Api";
+        });
     }
 
     /**
@@ -1533,7 +1583,7 @@ public class DefaultCodegen implements CodegenConfig {
      * @return capitalized model name
      */
     public String toModelName(final String name) {
-        return initialCaps(modelNamePrefix + name + modelNameSuffix);
+        return modelNameCache.get(name, n -> initialCaps(modelNamePrefix + n + modelNameSuffix));
     }
 
     /**
@@ -1788,7 +1838,7 @@ public class DefaultCodegen implements CodegenConfig {
         if (name == null || name.length() == 0) {
             return name;
         }
-        return org.openapitools.codegen.utils.StringUtils.camelize(toVarName(name));
+        return getterAndSetterCache.get(name, n -> org.openapitools.codegen.utils.StringUtils.camelize(toVarName(n)));
     }
 
 
@@ -2371,7 +2421,7 @@ public class DefaultCodegen implements CodegenConfig {
                             exampleStatusCode = key;
                         }
                     }
-                    op.examples = new ExampleGenerator(schemas, openAPI).generateFromResponseSchema(exampleStatusCode, responseSchema, getProducesInfo(openAPI, operation));
+                    op.examples = getExampleGenerator(schemas, openAPI).generateFromResponseSchema(exampleStatusCode, responseSchema, getProducesInfo(openAPI, operation));
                     op.defaultResponse = toDefaultValue(responseSchema);
                     op.returnType = cm.dataType;
                     op.hasReference = schemas != null && schemas.containsKey(op.returnBaseType);
@@ -2461,7 +2511,7 @@ public class DefaultCodegen implements CodegenConfig {
 
                 // add example
                 if (schemas != null) {
-                    op.requestBodyExamples = new ExampleGenerator(schemas, openAPI).generate(null, new ArrayList<String>(getConsumesInfo(openAPI, operation)), bodyParam.baseType);
+                    op.requestBodyExamples = getExampleGenerator(schemas, openAPI).generate(null, new ArrayList<String>(getConsumesInfo(openAPI, operation)), bodyParam.baseType);
                 }
             }
         }
@@ -3622,7 +3672,7 @@ public class DefaultCodegen implements CodegenConfig {
     }
 
     public boolean shouldOverwrite(String filename) {
-        return !(skipOverwrite && new File(filename).exists());
+        return !(skipOverwrite && WriteBehindFileWriter.exists(new File(filename)));
     }
 
     public boolean isSkipOverwrite() {
@@ -3807,6 +3857,14 @@ public class DefaultCodegen implements CodegenConfig {
      * @return sanitized string
      */
     public String sanitizeName(String name, String removeCharRegEx) {
+        if (name == null) {
+            return computeSanitizedName(null, removeCharRegEx);
+        }
+        // the same name may be sanitized with different regexes, so both are part of the key
+        return sanitizeNameCache.get(removeCharRegEx + '\u0000' + name, key -> computeSanitizedName(name, removeCharRegEx));
+    }
+
+    private String computeSanitizedName(String name, String removeCharRegEx) {
         // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
         // character with _ or empty character. Below aims to spell out different cases we've
         // encountered so far and hopefully make it easier for others to add more special
@@ -3892,7 +3950,7 @@ public class DefaultCodegen implements CodegenConfig {
         } else {
             folder = supportingFile.destinationFilename;
         }
-        if (!new File(folder).exists()) {
+        if (!WriteBehindFileWriter.exists(new File(folder))) {
             supportingFiles.add(supportingFile);
         } else {
             LOGGER.info("Skipped overwriting " + supportingFile.destinationFilename + " as the file already exists in " + folder);
@@ -4810,4 +4868,107 @@ public class DefaultCodegen implements CodegenConfig {
         this.enablePostProcessFile = enablePostProcessFile;
     }
 
+    /**
+     * Get the example generator for the given spec, reusing the previous one (and its memoized examples)
+     * as long as the spec and schemas are the same.
+     *
+     * @param schemas the schemas of the spec
+     * @param openAPI the spec
+     * @return the example generator
+     */
+    protected ExampleGenerator getExampleGenerator(Map<String, Schema> schemas, OpenAPI openAPI) {
+        if (exampleGenerator == null || exampleGenerator.getOpenAPI() != openAPI || exampleGenerator.getExamples() != schemas) {
+            exampleGenerator = new ExampleGenerator(schemas, openAPI);
+            exampleGenerator.setMaxElements(exampleMaxElements);
+            exampleGenerator.setMaxSize(exampleMaxSize);
+        }
+        return exampleGenerator;
+    }
+
+    public void setExampleMaxElements(int exampleMaxElements) {
+        this.exampleMaxElements = exampleMaxElements;
+        this.exampleGenerator = null;
+    }
+
+    public void setExampleMaxSize(int exampleMaxSize) {
+        this.exampleMaxSize = exampleMaxSize;
+        this.exampleGenerator = null;
+    }
+
+    /**
+     * Create a memoization cache for a pure name transformation of this codegen instance, e.g. toVarName.
+     * Generators can make their own overrides cacheable by declaring a cache field and delegating to it:
+     * <pre>
+     * private final NameCache varNameCache = nameCache("MyCodegen.toVarName");
+     *
+     * public String toVarName(String name) {
+     *     return varNameCache.get(name, n -&gt; ...);
+     * }
+     * </pre>
+     * The result must only depend on the input and on the codegen settings: reserved words, reserved word
+     * mappings, type and import mappings, language specific primitives, special character replacements,
+     * model name prefix/suffix and allowUnicodeIdentifiers. The caches are cleared on the next lookup
+     * whenever one of these settings has changed, however it was changed. Use a distinct name per
+     * overriding class, as an override calling super.toVarName must not share the cache of the base
+     * implementation.
+     *
+     * @param name name of the transformation, used in statistics
+     * @return a new cache registered with this codegen instance
+     */
+    protected final NameCache nameCache(String name) {
+        NameCache cache = new NameCache(name, this::validateNameCaches);
+        nameCaches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Clear all memoized names when a setting the transformations depend on has changed since the last lookup.
+     * The collections are compared by content, so that changes made through the fields are seen too.
+     */
+    private void validateNameCaches() {
+        Object[] settings = new Object[]{
+                Objects.hashCode(reservedWords), Objects.hashCode(reservedWordsMappings),
+                Objects.hashCode(typeMapping), Objects.hashCode(importMapping),
+                Objects.hashCode(languageSpecificPrimitives), Objects.hashCode(specialCharReplacements),
+                modelNamePrefix, modelNameSuffix, allowUnicodeIdentifiers
+        };
+        if (!Arrays.equals(settings, nameCacheSettings)) {
+            for (NameCache cache : nameCaches) {
+                cache.clear();
+            }
+            nameCacheSettings = settings;
+        }
+    }
+
+    /**
+     * @return hit rates of the memoized name transformations
+     */
+    public String getNameCacheStatistics() {
+        StringBuilder sb = new StringBuilder("Name cache statistics:");
+        for (NameCache cache : nameCaches) {
+            if (cache.getHits() + cache.getMisses() > 0) {
+                sb.append("\n  ").append(cache);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Get the templating engine used to render the templates of this generator.
+     *
+     * @return the templating engine
+     */
+    public TemplatingEngineAdapter getTemplatingEngine() {
+        return templatingEngine;
+    }
+
+    /**
+     * Set the templating engine used to render the templates of this generator.
+     *
+     * @param templatingEngine the templating engine
+     */
+    public void setTemplatingEngine(TemplatingEngineAdapter templatingEngine) {
+        this.templatingEngine = templatingEngine;
+    }
+
 }
@@ -17,9 +17,6 @@
 
 package org.openapitools.codegen;
 
-import com.samskivert.mustache.Mustache;
-import com.samskivert.mustache.Template;
-
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -38,9 +35,11 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.ignore.CodegenIgnoreProcessor;
+import org.openapitools.codegen.templating.TemplatingGenerator;
 import org.openapitools.codegen.utils.ImplementationVersion;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.URLPathUtils;
+import org.openapitools.codegen.utils.WriteBehindFileWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,7 +48,7 @@ import java.util.*;
 import java.net.*;
 import java.time.ZonedDateTime;
 
-public class DefaultGenerator extends AbstractGenerator implements Generator {
+public class DefaultGenerator extends AbstractGenerator implements Generator, TemplatingGenerator {
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
     protected CodegenConfig config;
     protected ClientOptInput opts;
@@ -67,6 +66,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     private String basePathWithoutHost;
     private String contextPath;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
+    private WriteBehindFileWriter writeBehind;
 
     @Override
     public Generator opts(ClientOptInput opts) {
@@ -92,6 +92,16 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         return this;
     }
 
+    @Override
+    public CodegenConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public String getFullTemplatePath(String templateFile) {
+        return getFullTemplateFile(config, templateFile);
+    }
+
     /**
      * Programmatically disable the output of .openapi-generator/VERSION, .openapi-generator-ignore,
      * or other metadata files used by OpenAPI Generator.
@@ -126,6 +136,49 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         return defaultValue;
     }
 
+    private Integer getGeneratorPropertyDefaultInteger(final String key, final Integer defaultValue) {
+        String result = System.getProperty(key);
+        if (result == null) {
+            result = this.generatorPropertyDefaults.get(key);
+        }
+        if (result != null) {
+            try {
+                return Integer.valueOf(result.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Ignoring invalid integer value '{}' for {}", result, key);
+            }
+        }
+        return defaultValue;
+    }
+
+    private void configureWriteBehind() {
+        int threads = getGeneratorPropertyDefaultInteger(CodegenConstants.WRITE_BEHIND_THREADS, 0);
+        if (threads <= 0) {
+            return;
+        }
+        if (config.isEnablePostProcessFile()) {
+            // post-processors expect the file to be on disk as soon as it has been generated
+            LOGGER.info("Write-behind is disabled because file post-processing is enabled");
+            return;
+        }
+        int queueSize = getGeneratorPropertyDefaultInteger(CodegenConstants.WRITE_BEHIND_QUEUE_SIZE, threads * 16);
+        LOGGER.debug("Writing files asynchronously with {} thread(s) and a queue of {} file(s)", threads, queueSize);
+        writeBehind = new WriteBehindFileWriter(threads, Math.max(1, queueSize));
+    }
+
+    private void flushWriteBehind() {
+        if (writeBehind == null) {
+            return;
+        }
+        try {
+            writeBehind.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write generated files", e);
+        } finally {
+            writeBehind = null;
+        }
+    }
+
     private void configureGeneratorProperties() {
         // allows generating only models by specifying a CSV of models to generate, or empty for all
         // NOTE: Boolean.TRUE is required below rather than `true` because of JVM boxing constraints and type inference.
@@ -269,7 +322,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             String suffix = config.modelTestTemplateFiles().get(templateName);
             String filename = config.modelTestFileFolder() + File.separator + config.toModelTestFilename(modelName) + suffix;
             // do not overwrite test file that already exists
-            if (new File(filename).exists()) {
+            if (WriteBehindFileWriter.exists(new File(filename))) {
                 LOGGER.info("File exists. Skipped overwriting " + filename);
                 continue;
             }
@@ -593,7 +646,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
                     String filename = config.apiFilename(templateName, tag);
-                    if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                    if (!config.shouldOverwrite(filename) && WriteBehindFileWriter.exists(new File(filename))) {
                         LOGGER.info("Skipped overwriting " + filename);
                         continue;
                     }
@@ -612,7 +665,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     for (String templateName : config.apiTestTemplateFiles().keySet()) {
                         String filename = config.apiTestFilename(templateName, tag);
                         // do not overwrite test file that already exists
-                        if (new File(filename).exists()) {
+                        if (WriteBehindFileWriter.exists(new File(filename))) {
                             LOGGER.info("File exists. Skipped overwriting " + filename);
                             continue;
                         }
@@ -632,7 +685,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     // to generate api documentation files
                     for (String templateName : config.apiDocTemplateFiles().keySet()) {
                         String filename = config.apiDocFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                        if (!config.shouldOverwrite(filename) && WriteBehindFileWriter.exists(new File(filename))) {
                             LOGGER.info("Skipped overwriting " + filename);
                             continue;
                         }
@@ -698,22 +751,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 }
 
                 if (ignoreProcessor.allowsFile(new File(outputFilename))) {
-                    if (templateFile.endsWith("mustache")) {
-                        String template = readTemplate(templateFile);
-                        Mustache.Compiler compiler = Mustache.compiler();
-                        compiler = config.processCompiler(compiler);
-                        Template tmpl = compiler
-                                .withLoader(new Mustache.TemplateLoader() {
-                                    @Override
-                                    public Reader getTemplate(String name) {
-                                        return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                    }
-                                })
-                                .defaultValue("")
-                                .compile(template);
-
-                        writeToFile(outputFilename, tmpl.execute(bundle));
-                        File written = new File(outputFilename);
+                    if (config.getTemplatingEngine().handlesFile(templateFile)) {
+                        File written = writeToFile(outputFilename, out -> config.getTemplatingEngine().render(this, bundle, templateFile, out));
                         files.add(written);
                         if (config.isEnablePostProcessFile()) {
                             config.postProcessFile(written, "supporting-mustache");
@@ -748,7 +787,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         final String openapiGeneratorIgnore = ".openapi-generator-ignore";
         String ignoreFileNameTarget = config.outputFolder() + File.separator + openapiGeneratorIgnore;
         File ignoreFile = new File(ignoreFileNameTarget);
-        if (generateMetadata && !ignoreFile.exists()) {
+        if (generateMetadata && !WriteBehindFileWriter.exists(ignoreFile)) {
             String ignoreFileNameSource = File.separator + config.getCommonTemplateDir() + File.separator + openapiGeneratorIgnore;
             String ignoreFileContents = readResourceContents(ignoreFileNameSource);
             try {
@@ -796,11 +835,23 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     }
 
+    @Override
+    public File writeToFile(String filename, ContentWriter content) throws IOException {
+        if (writeBehind == null) {
+            return super.writeToFile(filename, content);
+        }
+        LOGGER.debug("writing file {}", filename);
+        File output = new File(filename);
+        ensureParentDirectory(output);
+        writeBehind.write(output, content);
+        return output;
+    }
+
     protected File writeInputStreamToFile(String filename, InputStream in, String templateFile) throws FileNotFoundException, IOException {
         File outputFile = new File(filename);
         if (in != null) {
             OutputStream out = new FileOutputStream(outputFile, false);
-            LOGGER.info("writing file " + outputFile);
+            LOGGER.debug("writing file " + outputFile);
             IOUtils.copy(in, out);
             out.close();
         } else {
@@ -882,18 +933,28 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         inlineModelResolver.flatten(openAPI);
 
         List<File> files = new ArrayList<File>();
-        // models
-        List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
-        List<Object> allModels = new ArrayList<Object>();
-        generateModels(files, allModels, filteredSchemas);
-        // apis
-        List<Object> allOperations = new ArrayList<Object>();
-        generateApis(files, allOperations, allModels);
-
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
-        generateSupportingFiles(files, bundle);
+        configureWriteBehind();
+        try {
+            // models
+            List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
+            List<Object> allModels = new ArrayList<Object>();
+            generateModels(files, allModels, filteredSchemas);
+            // apis
+            List<Object> allOperations = new ArrayList<Object>();
+            generateApis(files, allOperations, allModels);
+
+            // supporting files
+            Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
+            generateSupportingFiles(files, bundle);
+        } finally {
+            // wait for pending writes so that all files are on disk (or the first I/O error is raised)
+            flushWriteBehind();
+        }
         config.processOpenAPI(openAPI);
+
+        if (LOGGER.isDebugEnabled() && config instanceof DefaultCodegen) {
+            LOGGER.debug(((DefaultCodegen) config).getNameCacheStatistics());
+        }
         return files;
     }
 
@@ -902,21 +963,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         if (ignoreProcessor.allowsFile(new File(adjustedOutputFilename))) {
             String templateFile = getFullTemplateFile(config, templateName);
-            String template = readTemplate(templateFile);
-            Mustache.Compiler compiler = Mustache.compiler();
-            compiler = config.processCompiler(compiler);
-            Template tmpl = compiler
-                    .withLoader(new Mustache.TemplateLoader() {
-                        @Override
-                        public Reader getTemplate(String name) {
-                            return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                        }
-                    })
-                    .defaultValue("")
-                    .compile(template);
-
-            writeToFile(adjustedOutputFilename, tmpl.execute(templateData));
-            return new File(adjustedOutputFilename);
+            return writeToFile(adjustedOutputFilename, out -> config.getTemplatingEngine().render(this, templateData, templateFile, out));
         }
 
         LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule in .openapi-generator-ignore");
@@ -46,6 +46,7 @@ import org.openapitools.codegen.languages.RubySinatraServerCodegen;
 import org.openapitools.codegen.languages.ScalaAkkaClientCodegen;
 import org.openapitools.codegen.languages.ScalaHttpClientCodegen;
 import org.openapitools.codegen.languages.SwiftClientCodegen;
+import org.openapitools.codegen.templating.TemplatingEngineLoader;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -108,6 +109,7 @@ public class CodegenConfigurator implements Serializable {
     private String artifactId;
     private String artifactVersion;
     private String library;
+    private String templatingEngineName;
     private String ignoreFileOverride;
     private Map<String, String> systemProperties = new HashMap<String, String>();
     private Map<String, String> instantiationTypes = new HashMap<String, String>();
@@ -439,6 +441,15 @@ public class CodegenConfigurator implements Serializable {
         return this;
     }
 
+    public String getTemplatingEngineName() {
+        return templatingEngineName;
+    }
+
+    public CodegenConfigurator setTemplatingEngineName(String templatingEngineName) {
+        this.templatingEngineName = templatingEngineName;
+        return this;
+    }
+
     public String getGitUserId() {
         return gitUserId;
     }
@@ -541,6 +552,10 @@ public class CodegenConfigurator implements Serializable {
             config.setLibrary(library);
         }
 
+        if (isNotEmpty(templatingEngineName)) {
+            config.setTemplatingEngine(TemplatingEngineLoader.byIdentifier(templatingEngineName));
+        }
+
         config.additionalProperties().putAll(additionalProperties);
 
         ClientOptInput input = new ClientOptInput()
@@ -26,8 +26,11 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Supplier;
 
 public class ExampleGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(ExampleGenerator.class);
@@ -44,15 +47,57 @@ public class ExampleGenerator {
     private static final String URI = "uri";
     private static final String STATUS_CODE = "statusCode";
 
+    // default limits of a single generated example, see setMaxElements and setMaxSize
+    public static final int DEFAULT_MAX_ELEMENTS = 10000;
+    public static final int DEFAULT_MAX_SIZE = 1024 * 1024;
+
     protected Map<String, Schema> examples;
     private OpenAPI openAPI;
     private Random random;
+    private int maxElements = DEFAULT_MAX_ELEMENTS;
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    // generated examples by (schema or model name, media types), so that a generator shared by several
+    // operations resolves and serializes each response/request body example only once
+    private final Map<ExampleKey, List<Map<String, String>>> cache = new HashMap<>();
+    // number of elements materialized for the example being resolved, and element counts of its subtrees
+    private long usedElements;
+    private final Map<Object, Long> elementCounts = new IdentityHashMap<>();
 
     public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI) {
         this.examples = examples;
         this.openAPI = openAPI;
-        // use a fixed seed to make the "random" numbers reproducible.
-        this.random = new Random("ExampleGenerator".hashCode());
+        resetRandom();
+    }
+
+    /**
+     * Set the maximum number of elements (objects, arrays and values) in a generated example.
+     * Arrays are shortened (to at least one item) once the budget is exhausted.
+     *
+     * @param maxElements the maximum number of elements
+     */
+    public void setMaxElements(int maxElements) {
+        this.maxElements = maxElements;
+        cache.clear();
+    }
+
+    /**
+     * Set the maximum length (in characters) of a serialized JSON example.
+     * Larger examples are serialized again with every array reduced to its first item.
+     *
+     * @param maxSize the maximum length
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        cache.clear();
+    }
+
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+
+    public Map<String, Schema> getExamples() {
+        return examples;
     }
 
     public List<Map<String, String>> generateFromResponseSchema(String statusCode, Schema responseSchema, Set<String> producesInfo) {
@@ -102,18 +147,22 @@ public class ExampleGenerator {
 
     public List<Map<String, String>> generate(Map<String, Object> examples, List<String> mediaTypes, Schema property) {
         LOGGER.debug("debugging generate in ExampleGenerator");
-        List<Map<String, String>> output = new ArrayList<>();
-        Set<String> processedModels = new HashSet<>();
-        if (examples == null) {
-            if (mediaTypes == null) {
-                // assume application/json for this
-                mediaTypes = Collections.singletonList(MIME_TYPE_JSON); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            }
-            for (String mediaType : mediaTypes) {
+        if (examples != null) {
+            return generateFromExamples(examples);
+        }
+        if (mediaTypes == null) {
+            // assume application/json for this
+            mediaTypes = Collections.singletonList(MIME_TYPE_JSON); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
+        }
+        final List<String> types = mediaTypes;
+        return memoize(new ExampleKey(property, types), () -> {
+            List<Map<String, String>> output = new ArrayList<>();
+            Set<String> processedModels = new HashSet<>();
+            for (String mediaType : types) {
                 Map<String, String> kv = new HashMap<>();
                 kv.put(CONTENT_TYPE, mediaType);
                 if (property != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
-                    String example = Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
+                    String example = serialize(resolvePropertyToExample("", mediaType, property, processedModels));
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -126,38 +175,29 @@ public class ExampleGenerator {
                     }
                 }
             }
-        } else {
-            for (Map.Entry<String, Object> entry : examples.entrySet()) {
-                final Map<String, String> kv = new HashMap<>();
-                kv.put(CONTENT_TYPE, entry.getKey());
-                kv.put(EXAMPLE, Json.pretty(entry.getValue()));
-                output.add(kv);
-            }
-        }
-
-        if (output.size() == 0) {
-            Map<String, String> kv = new HashMap<>();
-            kv.put(OUTPUT, NONE);
-            output.add(kv);
-        }
-        return output;
+            return output;
+        });
     }
 
     public List<Map<String, String>> generate(Map<String, Object> examples, List<String> mediaTypes, String modelName) {
-        List<Map<String, String>> output = new ArrayList<>();
-        Set<String> processedModels = new HashSet<>();
-        if (examples == null) {
-            if (mediaTypes == null) {
-                // assume application/json for this
-                mediaTypes = Collections.singletonList(MIME_TYPE_JSON); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            }
-            for (String mediaType : mediaTypes) {
+        if (examples != null) {
+            return generateFromExamples(examples);
+        }
+        if (mediaTypes == null) {
+            // assume application/json for this
+            mediaTypes = Collections.singletonList(MIME_TYPE_JSON); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
+        }
+        final List<String> types = mediaTypes;
+        return memoize(new ExampleKey(modelName, types), () -> {
+            List<Map<String, String>> output = new ArrayList<>();
+            Set<String> processedModels = new HashSet<>();
+            for (String mediaType : types) {
                 Map<String, String> kv = new HashMap<>();
                 kv.put(CONTENT_TYPE, mediaType);
                 if (modelName != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
                     final Schema schema = this.examples.get(modelName);
                     if (schema != null) {
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                        String example = serialize(resolveModelToExample(modelName, mediaType, schema, processedModels));
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -173,15 +213,41 @@ public class ExampleGenerator {
                     }
                 }
             }
-        } else {
-            for (Map.Entry<String, Object> entry : examples.entrySet()) {
-                final Map<String, String> kv = new HashMap<>();
-                kv.put(CONTENT_TYPE, entry.getKey());
-                kv.put(EXAMPLE, Json.pretty(entry.getValue()));
-                output.add(kv);
-            }
+            return output;
+        });
+    }
+
+    private List<Map<String, String>> generateFromExamples(Map<String, Object> examples) {
+        List<Map<String, String>> output = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : examples.entrySet()) {
+            final Map<String, String> kv = new HashMap<>();
+            kv.put(CONTENT_TYPE, entry.getKey());
+            kv.put(EXAMPLE, Json.pretty(entry.getValue()));
+            output.add(kv);
         }
+        return withDefaultOutput(output);
+    }
+
+    private List<Map<String, String>> memoize(ExampleKey key, Supplier<List<Map<String, String>>> generator) {
+        List<Map<String, String>> cached = cache.get(key);
+        if (cached == null) {
+            // the same seed, budget and element counts as a fresh generator, so memoized results are identical
+            resetRandom();
+            usedElements = 0;
+            elementCounts.clear();
+            cached = withDefaultOutput(generator.get());
+            cache.put(key, cached);
+        }
+
+        // callers modify the returned maps (e.g. to add the status code)
+        List<Map<String, String>> output = new ArrayList<>(cached.size());
+        for (Map<String, String> kv : cached) {
+            output.add(new HashMap<>(kv));
+        }
+        return output;
+    }
 
+    private static List<Map<String, String>> withDefaultOutput(List<Map<String, String>> output) {
         if (output.size() == 0) {
             Map<String, String> kv = new HashMap<>();
             kv.put(OUTPUT, NONE);
@@ -190,6 +256,11 @@ public class ExampleGenerator {
         return output;
     }
 
+    private void resetRandom() {
+        // use a fixed seed to make the "random" numbers reproducible.
+        this.random = new Random("ExampleGenerator".hashCode());
+    }
+
     private Object resolvePropertyToExample(String propertyName, String mediaType, Schema property, Set<String> processedModels) {
         LOGGER.debug("Resolving example for property {}...", property);
         if (property.getExample() != null) {
@@ -215,8 +286,16 @@ public class ExampleGenerator {
                     LOGGER.warn("The max items allowed in property {} is too large ({} items), restricting it to 1024 items", property, arrayLength);
                     arrayLength = 1024;
                 }
-                Object[] objectProperties = new Object[arrayLength];
                 Object objProperty = resolvePropertyToExample(propertyName, mediaType, innerType, processedModels);
+                // all items share the same (resolved once) example, but still count against the element budget
+                long itemElements = countElements(objProperty);
+                long allowed = Math.max(1, Math.min(arrayLength, (maxElements - usedElements) / itemElements));
+                if (allowed < arrayLength) {
+                    LOGGER.debug("Example of property {} exceeds the element budget ({}), restricting it to {} items", propertyName, maxElements, allowed);
+                    arrayLength = (int) allowed;
+                }
+                usedElements += arrayLength * itemElements;
+                Object[] objectProperties = new Object[arrayLength];
                 for (int i = 0; i < arrayLength; i++) {
                     objectProperties[i] = objProperty;
                 }
@@ -305,6 +384,92 @@ public class ExampleGenerator {
         }
     }
 
+    /**
+     * Count the elements (objects, arrays and values) of an example, counting shared subtrees once per occurrence.
+     */
+    private long countElements(Object example) {
+        if (example == null) {
+            return 1;
+        }
+        Long count = elementCounts.get(example);
+        if (count != null) {
+            return count;
+        }
+        long total = 1;
+        if (example instanceof Map) {
+            for (Object value : ((Map<?, ?>) example).values()) {
+                total += countElements(value);
+            }
+        } else if (example instanceof Object[]) {
+            for (Object item : (Object[]) example) {
+                total += countElements(item);
+            }
+        } else if (example instanceof Collection) {
+            for (Object item : (Collection<?>) example) {
+                total += countElements(item);
+            }
+        }
+        elementCounts.put(example, total);
+        return total;
+    }
+
+    /**
+     * Serialize an example to pretty-printed JSON, streaming into a writer bounded by the maximum size.
+     *
+     * @return the JSON example, or null if it cannot be serialized within the maximum size
+     */
+    private String serialize(Object example) {
+        String json = serializeBounded(example);
+        if (json == null) {
+            LOGGER.warn("Example exceeds {} characters, reducing all arrays to a single item", maxSize);
+            json = serializeBounded(collapseArrays(example, new IdentityHashMap<>()));
+            if (json == null) {
+                LOGGER.warn("Example still exceeds {} characters and is skipped", maxSize);
+            }
+        }
+        return json;
+    }
+
+    private String serializeBounded(Object example) {
+        BoundedWriter writer = new BoundedWriter(maxSize);
+        try {
+            Json.pretty().writeValue(writer, example);
+            return writer.toString();
+        } catch (IOException e) {
+            if (!writer.isExceeded()) {
+                LOGGER.error("Could not serialize example", e);
+            }
+            return null;
+        }
+    }
+
+    private static Object collapseArrays(Object example, Map<Object, Object> collapsed) {
+        if (example == null) {
+            return null;
+        }
+        Object result = collapsed.get(example);
+        if (result != null) {
+            return result;
+        }
+        if (example instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) example).entrySet()) {
+                map.put(entry.getKey(), collapseArrays(entry.getValue(), collapsed));
+            }
+            result = map;
+        } else if (example instanceof Object[]) {
+            Object[] items = (Object[]) example;
+            result = items.length == 0 ? items : new Object[]{collapseArrays(items[0], collapsed)};
+        } else if (example instanceof List) {
+            List<?> items = (List<?>) example;
+            result = items.isEmpty() ? items : Collections.singletonList(collapseArrays(items.get(0), collapsed));
+        } else {
+            result = example;
+        }
+        collapsed.put(example, result);
+        return result;
+    }
+
     private Object resolveModelToExample(String name, String mediaType, Schema schema, Set<String> processedModels) {
         if (processedModels.contains(name)) {
             return schema.getExample();
@@ -329,4 +494,73 @@ public class ExampleGenerator {
             return null;
         }
     }
+
+    private static class ExampleKey {
+        // a schema is compared by identity, a model name by value
+        private final Object subject;
+        private final List<String> mediaTypes;
+
+        ExampleKey(Object subject, List<String> mediaTypes) {
+            this.subject = subject;
+            this.mediaTypes = new ArrayList<>(mediaTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExampleKey)) {
+                return false;
+            }
+            ExampleKey that = (ExampleKey) o;
+            boolean sameSubject = subject instanceof String ? subject.equals(that.subject) : subject == that.subject;
+            return sameSubject && mediaTypes.equals(that.mediaTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            int subjectHash = subject instanceof String ? subject.hashCode() : System.identityHashCode(subject);
+            return 31 * subjectHash + mediaTypes.hashCode();
+        }
+    }
+
+    /**
+     * A string writer which fails once the maximum size has been exceeded.
+     */
+    private static class BoundedWriter extends Writer {
+        private final StringBuilder sb = new StringBuilder();
+        private final int maxSize;
+        private boolean exceeded;
+
+        BoundedWriter(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (sb.length() + len > maxSize) {
+                exceeded = true;
+                throw new IOException("Example exceeds " + maxSize + " characters");
+            }
+            sb.append(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        boolean isExceeded() {
+            return exceeded;
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
 }
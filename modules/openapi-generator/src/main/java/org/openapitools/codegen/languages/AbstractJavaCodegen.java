@@ -39,6 +39,7 @@ import org.openapitools.codegen.CodegenParameter;
 import org.openapitools.codegen.CodegenProperty;
 import org.openapitools.codegen.DefaultCodegen;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.NameCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -111,6 +112,9 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
     protected String parentVersion = "";
     protected boolean parentOverridden = false;
 
+    private final NameCache javaVarNameCache = nameCache("AbstractJavaCodegen.toVarName");
+    private final NameCache javaModelNameCache = nameCache("AbstractJavaCodegen.toModelName");
+
     public AbstractJavaCodegen() {
         super();
         supportsInheritance = true;
@@ -594,6 +598,10 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
 
     @Override
     public String toVarName(String name) {
+        return javaVarNameCache.get(name, this::computeVarName);
+    }
+
+    private String computeVarName(String name) {
         // sanitize name
         name = sanitizeName(name, "\\W-[\\$]"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
 
@@ -655,6 +663,10 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
 
     @Override
     public String toModelName(final String name) {
+        return javaModelNameCache.get(name, this::computeModelName);
+    }
+
+    private String computeModelName(final String name) {
         // We need to check if import-mapping has a different model for this class, so we use it
         // instead of the auto-generated one.
         if (importMapping.containsKey(name)) {
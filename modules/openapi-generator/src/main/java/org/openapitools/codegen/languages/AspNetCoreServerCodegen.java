@@ -21,6 +21,7 @@ import com.samskivert.mustache.Mustache;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.SupportingFile;
 import org.openapitools.codegen.utils.URLPathUtils;
@@ -30,16 +31,27 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.lang.IllegalArgumentException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import static java.util.UUID.randomUUID;
+import static org.openapitools.codegen.utils.StringUtils.camelize;
 
 public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
 
     public static final String USE_SWASHBUCKLE = "useSwashbuckle";
     public static final String ASPNET_CORE_VERSION = "aspnetCoreVersion";
+    public static final String USE_RESPONSE_COMPRESSION = "useResponseCompression";
+    public static final String USE_RESPONSE_COMPRESSION_FOR_HTTPS = "useResponseCompressionForHttps";
+    public static final String USE_RESPONSE_CACHING = "useResponseCaching";
+    public static final String USE_STREAMING_ARRAYS = "useStreamingArrays";
+
+    // vendor extensions of the operations setting the Cache-Control header of their responses
+    public static final String X_CACHE_SECONDS = "x-cache-seconds";
+    public static final String X_CACHE_LOCATION = "x-cache-location";
 
     private String packageGuid = "{" + randomUUID().toString().toUpperCase(Locale.ROOT) + "}";
 
@@ -50,6 +62,10 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
     protected int serverPort = 8080;
     protected String serverHost = "0.0.0.0";
     protected String aspnetCoreVersion= "2.1"; // default to 2.1
+    protected boolean useResponseCompression = false;
+    protected boolean useResponseCompressionForHttps = false;
+    protected boolean useResponseCaching = false;
+    protected boolean useStreamingArrays = false;
 
     public AspNetCoreServerCodegen() {
         super();
@@ -111,6 +127,26 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
                 "Uses the Swashbuckle.AspNetCore NuGet package for documentation.",
                 useSwashbuckle);
 
+        addSwitch(USE_RESPONSE_COMPRESSION,
+                "Compresses the responses with gzip, using the response compression middleware.",
+                useResponseCompression);
+
+        addSwitch(USE_RESPONSE_COMPRESSION_FOR_HTTPS,
+                "Also compresses the responses sent over HTTPS when " + USE_RESPONSE_COMPRESSION + " is enabled. "
+                        + "Compressing the responses mixing secrets with data sent by the client exposes the secrets "
+                        + "to attacks such as BREACH.",
+                useResponseCompressionForHttps);
+
+        addSwitch(USE_RESPONSE_CACHING,
+                "Caches the responses on the server, using the response caching middleware. The cache duration "
+                        + "of an operation is set by its " + X_CACHE_SECONDS + " vendor extension.",
+                useResponseCaching);
+
+        addSwitch(USE_STREAMING_ARRAYS,
+                "Returns the arrays as asynchronous sequences written to the response while they are enumerated, "
+                        + "instead of lists buffered in memory.",
+                useStreamingArrays);
+
     }
 
     @Override
@@ -151,6 +187,30 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
             additionalProperties.put(USE_SWASHBUCKLE, useSwashbuckle);
         }
 
+        if (additionalProperties.containsKey(USE_RESPONSE_COMPRESSION)) {
+            useResponseCompression = convertPropertyToBooleanAndWriteBack(USE_RESPONSE_COMPRESSION);
+        } else {
+            additionalProperties.put(USE_RESPONSE_COMPRESSION, useResponseCompression);
+        }
+
+        if (additionalProperties.containsKey(USE_RESPONSE_COMPRESSION_FOR_HTTPS)) {
+            useResponseCompressionForHttps = convertPropertyToBooleanAndWriteBack(USE_RESPONSE_COMPRESSION_FOR_HTTPS);
+        } else {
+            additionalProperties.put(USE_RESPONSE_COMPRESSION_FOR_HTTPS, useResponseCompressionForHttps);
+        }
+
+        if (additionalProperties.containsKey(USE_RESPONSE_CACHING)) {
+            useResponseCaching = convertPropertyToBooleanAndWriteBack(USE_RESPONSE_CACHING);
+        } else {
+            additionalProperties.put(USE_RESPONSE_CACHING, useResponseCaching);
+        }
+
+        if (additionalProperties.containsKey(USE_STREAMING_ARRAYS)) {
+            useStreamingArrays = convertPropertyToBooleanAndWriteBack(USE_STREAMING_ARRAYS);
+        } else {
+            additionalProperties.put(USE_STREAMING_ARRAYS, useStreamingArrays);
+        }
+
         // determine the ASP.NET core version setting
         if (additionalProperties.containsKey(ASPNET_CORE_VERSION)) {
             setAspnetCoreVersion((String) additionalProperties.get(ASPNET_CORE_VERSION));
@@ -185,6 +245,9 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
         supportingFiles.add(new SupportingFile("Startup.mustache", packageFolder, "Startup.cs"));
         supportingFiles.add(new SupportingFile("Program.mustache", packageFolder, "Program.cs"));
         supportingFiles.add(new SupportingFile("validateModel.mustache", packageFolder + File.separator + "Attributes", "ValidateModelStateAttribute.cs"));
+        if (useStreamingArrays) {
+            supportingFiles.add(new SupportingFile("streamingArrayResult.mustache", packageFolder + File.separator + "Results", "StreamingArrayResult.cs"));
+        }
         supportingFiles.add(new SupportingFile("Project.csproj.mustache", packageFolder, packageName + ".csproj"));
 
         supportingFiles.add(new SupportingFile("Properties" + File.separator + "launchSettings.json",
@@ -244,6 +307,59 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
 
         // Converts, for example, PUT to HttpPut for controller attributes
         operation.httpMethod = "Http" + operation.httpMethod.substring(0, 1) + operation.httpMethod.substring(1).toLowerCase(Locale.ROOT);
+
+        if (useStreamingArrays && operation.isListContainer && operation.returnBaseType != null) {
+            operation.vendorExtensions.put("x-aspnetcore-streaming-array", true);
+        }
+
+        String responseCache = responseCache(operation);
+        if (responseCache != null) {
+            operation.vendorExtensions.put("x-aspnetcore-response-cache", responseCache);
+        }
+    }
+
+    /**
+     * The arguments of the [ResponseCache] attribute of an operation having the x-cache-seconds vendor extension,
+     * e.g. Duration = 60, Location = ResponseCacheLocation.Client. A duration of 0 disables the caching.
+     * The responses cached by the middleware vary by the query parameters of the operation.
+     */
+    protected String responseCache(CodegenOperation operation) {
+        Object seconds = operation.vendorExtensions.get(X_CACHE_SECONDS);
+        if (seconds == null) {
+            return null;
+        }
+        int duration;
+        try {
+            duration = Integer.parseInt(String.valueOf(seconds).trim());
+        } catch (NumberFormatException e) {
+            duration = -1;
+        }
+        if (duration < 0) {
+            LOGGER.warn("Ignoring the invalid " + X_CACHE_SECONDS + " of " + operation.operationId + ": " + seconds);
+            return null;
+        }
+        if (duration == 0) {
+            return "NoStore = true, Location = ResponseCacheLocation.None";
+        }
+
+        StringBuilder arguments = new StringBuilder("Duration = ").append(duration);
+        Object location = operation.vendorExtensions.get(X_CACHE_LOCATION);
+        if (location != null) {
+            String name = String.valueOf(location).trim().toLowerCase(Locale.ROOT);
+            if (Arrays.asList("any", "client", "none").contains(name)) {
+                arguments.append(", Location = ResponseCacheLocation.").append(camelize(name));
+            } else {
+                LOGGER.warn("Ignoring the invalid " + X_CACHE_LOCATION + " of " + operation.operationId + ": " + location);
+            }
+        }
+        if (useResponseCaching && !operation.queryParams.isEmpty()) {
+            List<String> keys = new ArrayList<String>();
+            for (CodegenParameter param : operation.queryParams) {
+                keys.add("\"" + param.baseName + "\"");
+            }
+            arguments.append(", VaryByQueryKeys = new[] { ").append(String.join(", ", keys)).append(" }");
+        }
+        return arguments.toString();
     }
 
     @Override
@@ -49,8 +49,20 @@ public class CppPistacheServerCodegen extends AbstractCppCodegen {
     public static final String OPTIONAL_EXTERNAL_LIB_DESC = "Add the Possibility to fetch and compile external Libraries needed by this Framework.";
     public static final String HELPERS_PACKAGE_NAME = "helpersPackage";
     public static final String HELPERS_PACKAGE_NAME_DESC = "Specify the package name to be used for the helpers (e.g. org.openapitools.server.helpers).";
+    public static final String THREADS = "threads";
+    public static final String THREADS_DESC = "Number of threads of the HTTP endpoint.";
+    public static final String MAX_REQUEST_SIZE = "maxRequestSize";
+    public static final String MAX_REQUEST_SIZE_DESC = "Maximum size of a request, in bytes.";
+    public static final String KEEP_ALIVE_TIMEOUT = "keepAliveTimeout";
+    public static final String KEEP_ALIVE_TIMEOUT_DESC = "Time in seconds an idle keep-alive connection is kept open, Pistache's default when not set.";
+    public static final String ASYNC_HANDLERS = "asyncHandlers";
+    public static final String ASYNC_HANDLERS_DESC = "Generate operations taking ownership of the response writer and returning the promise of the response, "
+            + "so that they can respond once an asynchronous task completes instead of blocking a thread of the endpoint.";
     protected final String PREFIX = "";
     protected String helpersPackage = "";
+    protected int threads = 2;
+    protected int maxRequestSize = 4096;
+    protected boolean asyncHandlers = false;
     @Override
     public CodegenType getTag() {
         return CodegenType.SERVER;
@@ -89,6 +101,10 @@ public class CppPistacheServerCodegen extends AbstractCppCodegen {
         cliOptions.clear();
         addSwitch(OPTIONAL_EXTERNAL_LIB, OPTIONAL_EXTERNAL_LIB_DESC, this.isAddExternalLibs);
         addOption(HELPERS_PACKAGE_NAME, HELPERS_PACKAGE_NAME_DESC, this.helpersPackage);
+        addOption(THREADS, THREADS_DESC, String.valueOf(this.threads));
+        addOption(MAX_REQUEST_SIZE, MAX_REQUEST_SIZE_DESC, String.valueOf(this.maxRequestSize));
+        addOption(KEEP_ALIVE_TIMEOUT, KEEP_ALIVE_TIMEOUT_DESC, null);
+        addSwitch(ASYNC_HANDLERS, ASYNC_HANDLERS_DESC, this.asyncHandlers);
 
         reservedWords = new HashSet<>();
 
@@ -155,6 +171,23 @@ public class CppPistacheServerCodegen extends AbstractCppCodegen {
         } else {
             additionalProperties.put(OPTIONAL_EXTERNAL_LIB, isAddExternalLibs);
         }
+
+        if (additionalProperties.containsKey(THREADS)) {
+            threads = Integer.parseInt(additionalProperties.get(THREADS).toString());
+        }
+        additionalProperties.put(THREADS, threads);
+        if (additionalProperties.containsKey(MAX_REQUEST_SIZE)) {
+            maxRequestSize = Integer.parseInt(additionalProperties.get(MAX_REQUEST_SIZE).toString());
+        }
+        additionalProperties.put(MAX_REQUEST_SIZE, maxRequestSize);
+        if (additionalProperties.containsKey(KEEP_ALIVE_TIMEOUT)) {
+            additionalProperties.put(KEEP_ALIVE_TIMEOUT, Integer.parseInt(additionalProperties.get(KEEP_ALIVE_TIMEOUT).toString()));
+        }
+        if (additionalProperties.containsKey(ASYNC_HANDLERS)) {
+            asyncHandlers = convertPropertyToBooleanAndWriteBack(ASYNC_HANDLERS);
+        } else {
+            additionalProperties.put(ASYNC_HANDLERS, asyncHandlers);
+        }
     }
 
     @Override
@@ -180,6 +213,15 @@ public class CppPistacheServerCodegen extends AbstractCppCodegen {
             }
         }
 
+        // models made of scalar properties are read while the body is parsed, without building a JSON document
+        boolean isScalar = !codegenModel.vars.isEmpty();
+        for (CodegenProperty var : codegenModel.vars) {
+            if (var.isContainer || !(var.isPrimitiveType || var.isString || var.isDate || var.isDateTime || var.isByteArray || var.isBinary)) {
+                isScalar = false;
+            }
+        }
+        codegenModel.vendorExtensions.put("x-codegen-pistache-isScalar", isScalar);
+
         return codegenModel;
     }
 
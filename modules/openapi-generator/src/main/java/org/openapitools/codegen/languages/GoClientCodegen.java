@@ -37,6 +37,9 @@ public class GoClientCodegen extends AbstractGoCodegen {
     protected String modelDocPath = "docs/";
     public static final String WITH_GO_CODEGEN_COMMENT = "withGoCodegenComment";
     public static final String WITH_XML = "withXml";
+    public static final String WITH_MAX_CONNS_PER_HOST = "withMaxConnsPerHost";
+
+    protected boolean withMaxConnsPerHost = false;
 
     public GoClientCodegen() {
         super();
@@ -57,6 +60,7 @@ public class GoClientCodegen extends AbstractGoCodegen {
                 .defaultValue("1.0.0"));
         cliOptions.add(CliOption.newBoolean(WITH_GO_CODEGEN_COMMENT, "whether to include Go codegen comment to disable Go Lint and collapse by default GitHub in PRs and diffs"));
         cliOptions.add(CliOption.newBoolean(WITH_XML, "whether to include support for application/xml content type and include XML annotations in the model (works with libraries that provide support for JSON and XML)"));
+        cliOptions.add(CliOption.newBoolean(WITH_MAX_CONNS_PER_HOST, "whether to include the MaxConnsPerHost setting of the transport, which requires Go 1.11 or later"));
 
 
         // option to change the order of form/body parameter
@@ -114,6 +118,11 @@ public class GoClientCodegen extends AbstractGoCodegen {
                 additionalProperties.put(WITH_XML, "true");
             }
         }
+
+        if (additionalProperties.containsKey(WITH_MAX_CONNS_PER_HOST)) {
+            setWithMaxConnsPerHost(Boolean.parseBoolean(additionalProperties.get(WITH_MAX_CONNS_PER_HOST).toString()));
+        }
+        additionalProperties.put(WITH_MAX_CONNS_PER_HOST, withMaxConnsPerHost);
     }
 
     /**
@@ -187,4 +196,8 @@ public class GoClientCodegen extends AbstractGoCodegen {
         this.packageVersion = packageVersion;
     }
 
+    public void setWithMaxConnsPerHost(boolean withMaxConnsPerHost) {
+        this.withMaxConnsPerHost = withMaxConnsPerHost;
+    }
+
 }
@@ -18,6 +18,7 @@
 package org.openapitools.codegen.languages;
 
 import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.SupportingFile;
@@ -31,10 +32,13 @@ public class GoServerCodegen extends AbstractGoCodegen {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GoServerCodegen.class);
 
+    public static final String STATIC_ROUTER = "staticRouter";
+
     protected String apiVersion = "1.0.0";
     protected int serverPort = 8080;
     protected String projectName = "openapi-server";
     protected String apiPath = "go";
+    protected boolean staticRouter = false;
 
     public GoServerCodegen() {
         super();
@@ -84,6 +88,10 @@ public class GoServerCodegen extends AbstractGoCodegen {
                         "continue", "for", "import", "return", "var", "error", "nil")
                 // Added "error" as it's used so frequently that it may as well be a keyword
         );
+
+        cliOptions.add(CliOption.newBoolean(STATIC_ROUTER,
+                "Serve the requests with a generated router matching path segments in a tree instead of gorilla/mux regular expressions",
+                staticRouter));
     }
 
     @Override
@@ -105,6 +113,11 @@ public class GoServerCodegen extends AbstractGoCodegen {
         additionalProperties.put("apiPath", apiPath);
         additionalProperties.put(CodegenConstants.PACKAGE_NAME, packageName);
 
+        if (additionalProperties.containsKey(STATIC_ROUTER)) {
+            setStaticRouter(convertPropertyToBoolean(STATIC_ROUTER));
+        }
+        writePropertyBack(STATIC_ROUTER, staticRouter);
+
         modelPackage = packageName;
         apiPackage = packageName;
 
@@ -118,9 +131,17 @@ public class GoServerCodegen extends AbstractGoCodegen {
         supportingFiles.add(new SupportingFile("Dockerfile.mustache", "", "Dockerfile"));
         supportingFiles.add(new SupportingFile("routers.mustache", apiPath, "routers.go"));
         supportingFiles.add(new SupportingFile("logger.mustache", apiPath, "logger.go"));
+        if (staticRouter) {
+            supportingFiles.add(new SupportingFile("static_router.mustache", apiPath, "static_router.go"));
+            supportingFiles.add(new SupportingFile("static_router_test.mustache", apiPath, "static_router_test.go"));
+        }
         writeOptional(outputFolder, new SupportingFile("README.mustache", apiPath, "README.md"));
     }
 
+    public void setStaticRouter(boolean staticRouter) {
+        this.staticRouter = staticRouter;
+    }
+
     @Override
     public String apiPackage() {
         return apiPath;
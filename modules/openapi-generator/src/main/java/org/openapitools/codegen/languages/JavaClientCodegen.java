@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -63,6 +64,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String FEIGN_VERSION = "feignVersion";
     public static final String PARCELABLE_MODEL = "parcelableModel";
     public static final String USE_RUNTIME_EXCEPTION = "useRuntimeException";
+    public static final String GSON_TYPE_ADAPTERS = "gsonTypeAdapters";
+    public static final String JACKSON_SERIALIZERS = "jacksonSerializers";
+    public static final String CLIENT_CACHE = "clientCache";
 
     public static final String PLAY_24 = "play24";
     public static final String PLAY_25 = "play25";
@@ -75,6 +79,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String GOOGLE_API_CLIENT = "google-api-client";
     public static final String JERSEY1 = "jersey1";
     public static final String JERSEY2 = "jersey2";
+    public static final String NATIVE = "native";
     public static final String OKHTTP_GSON = "okhttp-gson";
     public static final String RESTEASY = "resteasy";
     public static final String RESTTEMPLATE = "resttemplate";
@@ -96,6 +101,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     protected boolean performBeanValidation = false;
     protected boolean useGzipFeature = false;
     protected boolean useRuntimeException = false;
+    protected boolean gsonTypeAdapters = false;
+    protected boolean jacksonSerializers = false;
+    protected boolean clientCache = false;
 
 
     public JavaClientCodegen() {
@@ -117,6 +125,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(PERFORM_BEANVALIDATION, "Perform BeanValidation"));
         cliOptions.add(CliOption.newBoolean(USE_GZIP_FEATURE, "Send gzip-encoded requests"));
         cliOptions.add(CliOption.newBoolean(USE_RUNTIME_EXCEPTION, "Use RuntimeException instead of Exception"));
+        cliOptions.add(CliOption.newBoolean(GSON_TYPE_ADAPTERS, "Generate a Gson TypeAdapter for each model, reading and writing fields without reflection (okhttp-gson and retrofit2 libraries)"));
+        cliOptions.add(CliOption.newBoolean(JACKSON_SERIALIZERS, "Generate a Jackson serializer and deserializer for each model, reading and writing fields without bean introspection (jersey2, native, resttemplate, webclient, feign, resteasy and google-api-client libraries)"));
+        cliOptions.add(CliOption.newBoolean(CLIENT_CACHE, "Generate an HTTP response cache, honouring Cache-Control, ETag and Last-Modified, for the GET operations marked with the x-client-cache vendor extension (okhttp-gson, retrofit2 and jersey2 libraries)"));
         cliOptions.add(CliOption.newBoolean(FEIGN_VERSION, "Version of OpenFeign: '10.x', '9.x' (default)"));
 
         supportedLibraries.put(JERSEY1, "HTTP client: Jersey client 1.19.4. JSON processing: Jackson 2.8.9. Enable Java6 support using '-DsupportJava6=true'. Enable gzip request encoding using '-DuseGzipFeature=true'.");
@@ -130,6 +141,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         supportedLibraries.put(RESTEASY, "HTTP client: Resteasy client 3.1.3.Final. JSON processing: Jackson 2.8.9");
         supportedLibraries.put(VERTX, "HTTP client: VertX client 3.2.4. JSON processing: Jackson 2.8.9");
         supportedLibraries.put(GOOGLE_API_CLIENT, "HTTP client: Google API client 1.23.0. JSON processing: Jackson 2.8.9");
+        supportedLibraries.put(NATIVE, "HTTP client: Java native HttpClient (java.net.http). JSON processing: Jackson 2.9.9. Only for Java 11+");
         supportedLibraries.put(REST_ASSURED, "HTTP client: rest-assured : 3.1.0. JSON processing: Gson 2.6.1. Only for Java8");
 
         CliOption libraryOption = new CliOption(CodegenConstants.LIBRARY, "library template (sub-template) to use");
@@ -158,7 +170,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
 
     @Override
     public void processOpts() {
-        if (WEBCLIENT.equals(getLibrary()) && "threetenbp".equals(dateLibrary)) {
+        if ((WEBCLIENT.equals(getLibrary()) || NATIVE.equals(getLibrary())) && "threetenbp".equals(dateLibrary)) {
             dateLibrary = "java8";
         }
 
@@ -224,6 +236,45 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             this.setUseRuntimeException(convertPropertyToBooleanAndWriteBack(USE_RUNTIME_EXCEPTION));
         }
 
+        if (additionalProperties.containsKey(GSON_TYPE_ADAPTERS)) {
+            this.setGsonTypeAdapters(convertPropertyToBooleanAndWriteBack(GSON_TYPE_ADAPTERS));
+        }
+        if (gsonTypeAdapters) {
+            if (!(OKHTTP_GSON.equals(getLibrary()) || StringUtils.isEmpty(getLibrary()) || (RETROFIT_2.equals(getLibrary()) && !usePlayWS))) {
+                LOGGER.warn("gsonTypeAdapters is only supported by the okhttp-gson and retrofit2 libraries, ignoring it.");
+                this.setGsonTypeAdapters(false);
+            } else if (supportJava6) {
+                LOGGER.warn("gsonTypeAdapters requires Java 7 or later, ignoring it as supportJava6 is enabled.");
+                this.setGsonTypeAdapters(false);
+            }
+            additionalProperties.put(GSON_TYPE_ADAPTERS, gsonTypeAdapters);
+        }
+
+        if (additionalProperties.containsKey(JACKSON_SERIALIZERS)) {
+            this.setJacksonSerializers(convertPropertyToBooleanAndWriteBack(JACKSON_SERIALIZERS));
+        }
+        if (jacksonSerializers) {
+            if (!Arrays.asList(JERSEY2, NATIVE, RESTTEMPLATE, WEBCLIENT, FEIGN, RESTEASY, GOOGLE_API_CLIENT).contains(getLibrary())) {
+                LOGGER.warn("jacksonSerializers is only supported by the jersey2, native, resttemplate, webclient, feign, resteasy and google-api-client libraries, ignoring it.");
+                this.setJacksonSerializers(false);
+            } else if (withXml) {
+                LOGGER.warn("jacksonSerializers does not support XML mapping, ignoring it as withXml is enabled.");
+                this.setJacksonSerializers(false);
+            }
+            additionalProperties.put(JACKSON_SERIALIZERS, jacksonSerializers);
+        }
+
+        if (additionalProperties.containsKey(CLIENT_CACHE)) {
+            this.setClientCache(convertPropertyToBooleanAndWriteBack(CLIENT_CACHE));
+        }
+        if (clientCache) {
+            if (!(OKHTTP_GSON.equals(getLibrary()) || StringUtils.isEmpty(getLibrary()) || (RETROFIT_2.equals(getLibrary()) && !usePlayWS) || JERSEY2.equals(getLibrary()))) {
+                LOGGER.warn("clientCache is only supported by the okhttp-gson, retrofit2 and jersey2 libraries, ignoring it.");
+                this.setClientCache(false);
+            }
+            additionalProperties.put(CLIENT_CACHE, clientCache);
+        }
+
         final String invokerFolder = (sourceFolder + '/' + invokerPackage).replace(".", "/");
         final String authFolder = (sourceFolder + '/' + invokerPackage + ".auth").replace(".", "/");
         final String apiFolder = (sourceFolder + '/' + apiPackage).replace(".", "/");
@@ -263,6 +314,21 @@ public class JavaClientCodegen extends AbstractJavaCodegen
                     "BeanValidationException.java"));
         }
 
+        if (clientCache) {
+            supportingFiles.add(new SupportingFile("ClientCache.mustache", invokerFolder, "ClientCache.java"));
+            if (JERSEY2.equals(getLibrary())) {
+                supportingFiles.add(new SupportingFile("ClientCacheFilter.mustache", invokerFolder, "ClientCacheFilter.java"));
+            } else {
+                supportingFiles.add(new SupportingFile("ClientCacheInterceptor.mustache", invokerFolder, "ClientCacheInterceptor.java"));
+            }
+        }
+
+        if (OKHTTP_GSON.equals(getLibrary()) || StringUtils.isEmpty(getLibrary()) || (RETROFIT_2.equals(getLibrary()) && !usePlayWS)
+                || JERSEY2.equals(getLibrary()) || RESTTEMPLATE.equals(getLibrary())) {
+            supportingFiles.add(new SupportingFile("ClientConfiguration.mustache", invokerFolder, "ClientConfiguration.java"));
+            additionalProperties.put("clientConfiguration", true);
+        }
+
         //TODO: add doc to retrofit1 and feign
         if (FEIGN.equals(getLibrary()) || RETROFIT_1.equals(getLibrary())) {
             modelDocTemplateFiles.remove("model_doc.mustache");
@@ -294,17 +360,32 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             supportingFiles.add(new SupportingFile("auth/OAuthOkHttpClient.mustache", authFolder, "OAuthOkHttpClient.java"));
             supportingFiles.add(new SupportingFile("auth/RetryingOAuth.mustache", authFolder, "RetryingOAuth.java"));
             additionalProperties.put("gson", "true");
+            if (gsonTypeAdapters) {
+                supportingFiles.add(new SupportingFile("GsonTypeAdapterFactory.mustache", invokerFolder, "GsonTypeAdapterFactory.java"));
+            }
         } else if (usesAnyRetrofitLibrary()) {
             supportingFiles.add(new SupportingFile("auth/OAuthOkHttpClient.mustache", authFolder, "OAuthOkHttpClient.java"));
             supportingFiles.add(new SupportingFile("CollectionFormats.mustache", invokerFolder, "CollectionFormats.java"));
             additionalProperties.put("gson", "true");
             if ("retrofit2".equals(getLibrary()) && !usePlayWS) {
                 supportingFiles.add(new SupportingFile("JSON.mustache", invokerFolder, "JSON.java"));
+                if (gsonTypeAdapters) {
+                    supportingFiles.add(new SupportingFile("GsonTypeAdapterFactory.mustache", invokerFolder, "GsonTypeAdapterFactory.java"));
+                }
             }
         } else if (JERSEY2.equals(getLibrary())) {
             supportingFiles.add(new SupportingFile("JSON.mustache", invokerFolder, "JSON.java"));
             supportingFiles.add(new SupportingFile("ApiResponse.mustache", invokerFolder, "ApiResponse.java"));
             additionalProperties.put("jackson", "true");
+        } else if (NATIVE.equals(getLibrary())) {
+            setJava8Mode(true);
+            additionalProperties.put("java8", "true");
+            additionalProperties.put("jackson", "true");
+            supportingFiles.add(new SupportingFile("ApiResponse.mustache", invokerFolder, "ApiResponse.java"));
+            supportingFiles.add(new SupportingFile("JsonBodySubscriber.mustache", invokerFolder, "JsonBodySubscriber.java"));
+            // Java 11 only, neither Android nor sbt builds are generated
+            supportingFiles.remove(new SupportingFile("manifest.mustache", projectFolder, "AndroidManifest.xml"));
+            supportingFiles.remove(new SupportingFile("build.sbt.mustache", "", "build.sbt"));
         } else if (RESTEASY.equals(getLibrary())) {
             supportingFiles.add(new SupportingFile("JSON.mustache", invokerFolder, "JSON.java"));
             additionalProperties.put("jackson", "true");
@@ -394,6 +475,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
 
         if (additionalProperties.containsKey("jackson")) {
             supportingFiles.add(new SupportingFile("RFC3339DateFormat.mustache", invokerFolder, "RFC3339DateFormat.java"));
+            if (jacksonSerializers) {
+                supportingFiles.add(new SupportingFile("JacksonSerializersModule.mustache", invokerFolder, "JacksonSerializersModule.java"));
+            }
             if ("threetenbp".equals(dateLibrary) && !usePlayWS) {
                 supportingFiles.add(new SupportingFile("CustomInstantDeserializer.mustache", invokerFolder, "CustomInstantDeserializer.java"));
             }
@@ -473,9 +557,95 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             }
         }
 
+        if (NATIVE.equals(getLibrary())) {
+            configureBatchOperations(objs, allModels);
+        }
+
         return objs;
     }
 
+    /**
+     * Checks the operations marked with the x-batch-with vendor extension, whose calls are batched
+     * into calls of the named operation (native library). The operation must take a single key and
+     * return one item, the batch operation must take a list of keys and return a list of items,
+     * identified by the model property named by the "key" setting ("id" by default), e.g.
+     * <pre>
+     * x-batch-with:
+     *   operationId: getUsersByIds
+     *   key: id
+     * </pre>
+     * or simply {@code x-batch-with: getUsersByIds}.
+     */
+    @SuppressWarnings("unchecked")
+    private void configureBatchOperations(Map<String, Object> objs, List<Object> allModels) {
+        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+        List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+        for (CodegenOperation op : ops) {
+            Object batchWith = op.vendorExtensions.get("x-batch-with");
+            if (batchWith == null) {
+                continue;
+            }
+            String batchOperationId;
+            String keyProperty = "id";
+            if (batchWith instanceof Map) {
+                Map<String, Object> settings = (Map<String, Object>) batchWith;
+                batchOperationId = String.valueOf(settings.get("operationId"));
+                if (settings.get("key") != null) {
+                    keyProperty = String.valueOf(settings.get("key"));
+                }
+            } else {
+                batchOperationId = String.valueOf(batchWith);
+            }
+
+            CodegenOperation batchOp = null;
+            for (CodegenOperation candidate : ops) {
+                if (batchOperationId.equals(candidate.operationIdOriginal) || batchOperationId.equals(candidate.operationId)) {
+                    batchOp = candidate;
+                }
+            }
+            if (batchOp == null) {
+                LOGGER.warn("Ignoring x-batch-with of operation " + op.operationId + ": operation " + batchOperationId + " not found in the same API");
+                continue;
+            }
+            if (op.allParams.size() != 1 || !op.allParams.get(0).required || op.allParams.get(0).isContainer
+                    || op.returnType == null || op.returnContainer != null) {
+                LOGGER.warn("Ignoring x-batch-with of operation " + op.operationId + ": it must take a single required key and return a single item");
+                continue;
+            }
+            CodegenParameter key = op.allParams.get(0);
+            if (batchOp.allParams.size() != 1 || !batchOp.allParams.get(0).isListContainer
+                    || batchOp.allParams.get(0).items == null || !key.dataType.equals(batchOp.allParams.get(0).items.dataType)
+                    || !"array".equals(batchOp.returnContainer) || !op.returnType.equals(batchOp.returnBaseType)) {
+                LOGGER.warn("Ignoring x-batch-with of operation " + op.operationId + ": " + batchOp.operationId + " must take a list of " + key.dataType + " and return a list of " + op.returnType);
+                continue;
+            }
+            CodegenProperty keyProp = null;
+            for (Object model : allModels) {
+                CodegenModel cm = (CodegenModel) ((Map<String, Object>) model).get("model");
+                if (cm != null && op.returnType.equals(cm.classname)) {
+                    for (CodegenProperty prop : cm.vars) {
+                        if (keyProperty.equals(prop.baseName) || keyProperty.equals(prop.name)) {
+                            keyProp = prop;
+                        }
+                    }
+                }
+            }
+            if (keyProp == null || !key.dataType.equals(keyProp.dataType)) {
+                LOGGER.warn("Ignoring x-batch-with of operation " + op.operationId + ": " + op.returnType + " has no " + key.dataType + " property " + keyProperty);
+                continue;
+            }
+
+            op.vendorExtensions.put("x-batch-operation", batchOp.operationId);
+            op.vendorExtensions.put("x-batch-key-getter", keyProp.getter);
+            objs.put("hasBatchOperations", true);
+            additionalProperties.put("batchOperations", true);
+            SupportingFile batcher = new SupportingFile("RequestBatcher.mustache", (sourceFolder + '/' + invokerPackage).replace(".", "/"), "RequestBatcher.java");
+            if (!supportingFiles.contains(batcher)) {
+                supportingFiles.add(batcher);
+            }
+        }
+    }
+
     @Override
     public String apiFilename(String templateName, String tag) {
         if (VERTX.equals(getLibrary())) {
@@ -563,6 +733,102 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, Object> postProcessModels(Map<String, Object> objs) {
+        objs = super.postProcessModels(objs);
+        if (gsonTypeAdapters) {
+            // the imports of the type adapters are added per property, so a model without properties would miss them
+            List<Map<String, String>> imports = (List<Map<String, String>>) objs.get("imports");
+            for (Map<String, Object> mo : (List<Map<String, Object>>) objs.get("models")) {
+                CodegenModel cm = (CodegenModel) mo.get("model");
+                if (!BooleanUtils.toBoolean(cm.isEnum)) {
+                    for (String name : Arrays.asList("TypeAdapter", "JsonReader", "JsonWriter", "IOException")) {
+                        addImport(imports, importMapping.get(name));
+                    }
+                }
+            }
+        }
+        return objs;
+    }
+
+    private static void addImport(List<Map<String, String>> imports, String mapping) {
+        for (Map<String, String> im : imports) {
+            if (mapping.equals(im.get("import"))) {
+                return;
+            }
+        }
+        Map<String, String> im = new HashMap<String, String>();
+        im.put("import", mapping);
+        imports.add(im);
+    }
+
+    @Override
+    public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+        objs = super.postProcessAllModels(objs);
+        if (gsonTypeAdapters || jacksonSerializers) {
+            for (Object value : objs.values()) {
+                List<Map<String, Object>> models = (List<Map<String, Object>>) ((Map<String, Object>) value).get("models");
+                for (Map<String, Object> mo : models) {
+                    CodegenModel cm = (CodegenModel) mo.get("model");
+                    if (!bindsFieldsDirectly(cm)) {
+                        continue;
+                    }
+                    if (gsonTypeAdapters) {
+                        cm.vendorExtensions.put("x-gson-type-adapter", true);
+                        if (cm.getParentModel() != null) {
+                            cm.vendorExtensions.put("x-gson-type-adapter-parent", true);
+                        }
+                    }
+                    if (jacksonSerializers) {
+                        cm.vendorExtensions.put("x-jackson-serializers", true);
+                        if (cm.getParentModel() != null) {
+                            cm.vendorExtensions.put("x-jackson-serializers-parent", true);
+                        }
+                        for (CodegenProperty var : cm.vars) {
+                            postProcessJacksonSerializersProperty(var);
+                        }
+                    }
+                }
+            }
+        }
+        return objs;
+    }
+
+    /**
+     * Generated Gson type adapters and Jackson (de)serializers bind the fields of the model and of its parent models,
+     * so models extending containers (e.g. HashMap) are left to the reflective binding of Gson or Jackson.
+     */
+    private static boolean bindsFieldsDirectly(CodegenModel cm) {
+        for (CodegenModel model = cm; model != null; model = model.getParentModel()) {
+            if (model.isEnum || model.isArrayModel || model.isMapModel || (model.getParent() != null && model.getParentModel() == null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scalar properties are written with the matching JsonGenerator method and strings are read directly from the parser,
+     * everything else goes through the (de)serializer Jackson resolves for the declared type.
+     */
+    private static void postProcessJacksonSerializersProperty(CodegenProperty var) {
+        if (var.isEnum) {
+            return;
+        }
+        String type = var.datatypeWithEnum;
+        if ("String".equals(type)) {
+            var.vendorExtensions.put("x-jackson-write", "writeString");
+            var.vendorExtensions.put("x-jackson-string", true);
+        } else if ("Boolean".equals(type)) {
+            var.vendorExtensions.put("x-jackson-write", "writeBoolean");
+        } else if (Arrays.asList("Integer", "Long", "Float", "Double", "BigDecimal").contains(type)) {
+            var.vendorExtensions.put("x-jackson-write", "writeNumber");
+        } else if ("Object".equals(type)) {
+            var.vendorExtensions.put("x-jackson-dynamic", true);
+        }
+    }
+
     @Override
     public Map<String, Object> postProcessModelsEnum(Map<String, Object> objs) {
         objs = super.postProcessModelsEnum(objs);
@@ -631,6 +897,18 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         this.useRuntimeException = useRuntimeException;
     }
 
+    public void setGsonTypeAdapters(boolean gsonTypeAdapters) {
+        this.gsonTypeAdapters = gsonTypeAdapters;
+    }
+
+    public void setJacksonSerializers(boolean jacksonSerializers) {
+        this.jacksonSerializers = jacksonSerializers;
+    }
+
+    public void setClientCache(boolean clientCache) {
+        this.clientCache = clientCache;
+    }
+
     final private static Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)application\\/json(;.*)?");
     final private static Pattern JSON_VENDOR_MIME_PATTERN = Pattern.compile("(?i)application\\/vnd.(.*)+json(;.*)?");
 
@@ -18,8 +18,10 @@
 package org.openapitools.codegen.languages;
 
 import org.apache.commons.lang3.BooleanUtils;
+import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.CodegenModel;
 import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
 import org.openapitools.codegen.CodegenProperty;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.SupportingFile;
@@ -29,14 +31,26 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
 
 
 public class JavaUndertowServerCodegen extends AbstractJavaCodegen {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JavaUndertowServerCodegen.class);
 
+    public static final String BLOCKING = "blocking";
+    public static final String RESPONSE_BUFFER_SIZE = "responseBufferSize";
+
+    private static final Pattern JSON_MEDIA_TYPE = Pattern.compile("(?i)application/([^;]+\\+)?json(;.*)?");
+
     protected String title = "OpenAPI Undertow Server";
     protected String implFolder = "src/main/java";
+    protected boolean blocking = false;
+    protected int responseBufferSize = 1024;
+    // imports of the request body types, for the handlers
+    protected Set<String> handlerImports = new TreeSet<String>();
 
     public JavaUndertowServerCodegen() {
         super();
@@ -68,6 +82,10 @@ public class JavaUndertowServerCodegen extends AbstractJavaCodegen {
         }
 
         additionalProperties.put("title", title);
+
+        cliOptions.add(CliOption.newBoolean(BLOCKING, "Run all the operations on worker threads, not only those with the x-blocking vendor extension", blocking));
+        cliOptions.add(new CliOption(RESPONSE_BUFFER_SIZE, "Initial size in bytes of the buffers of the JSON responses, unless set by the x-response-buffer-size vendor extension of an operation")
+                .defaultValue(String.valueOf(responseBufferSize)));
     }
 
     @Override
@@ -91,12 +109,23 @@ public class JavaUndertowServerCodegen extends AbstractJavaCodegen {
 
         apiTemplateFiles.remove("api.mustache");
 
+        if (additionalProperties.containsKey(BLOCKING)) {
+            this.setBlocking(convertPropertyToBoolean(BLOCKING));
+        }
+        writePropertyBack(BLOCKING, blocking);
+
+        if (additionalProperties.containsKey(RESPONSE_BUFFER_SIZE)) {
+            this.setResponseBufferSize(Integer.parseInt(additionalProperties.get(RESPONSE_BUFFER_SIZE).toString()));
+        }
+        additionalProperties.put(RESPONSE_BUFFER_SIZE, responseBufferSize);
+
         writeOptional(outputFolder, new SupportingFile("pom.mustache", "", "pom.xml"));
         writeOptional(outputFolder, new SupportingFile("README.mustache", "", "README.md"));
 
         // keep the yaml in config folder for framework validation.
         supportingFiles.add(new SupportingFile("openapi.mustache", ("src.main.resources.config").replace(".", java.io.File.separator), "openapi.json"));
         supportingFiles.add(new SupportingFile("handler.mustache", ("src.main.java.org.openapitools.handler").replace(".", java.io.File.separator), "PathHandlerProvider.java"));
+        supportingFiles.add(new SupportingFile("operationHandler.mustache", ("src.main.java.org.openapitools.handler").replace(".", java.io.File.separator), "OperationHandler.java"));
         supportingFiles.add(new SupportingFile("service.mustache", ("src.main.resources.META-INF.services").replace(".", java.io.File.separator), "com.networknt.server.HandlerProvider"));
 
         // configuration files
@@ -136,11 +165,67 @@ public class JavaUndertowServerCodegen extends AbstractJavaCodegen {
                         operation.returnContainer = "Set";
                     }
                 }
+
+                processHandlerExtensions(operation);
+            }
+
+            List<Map<String, String>> imports = (List<Map<String, String>>) objs.get("imports");
+            if (imports != null) {
+                for (Map<String, String> item : imports) {
+                    handlerImports.add(item.get("import"));
+                }
             }
         }
         return objs;
     }
 
+    /**
+     * Set the vendor extensions used by the handler of an operation: the type of its JSON request
+     * body, whether it runs on a worker thread, and the size of its response buffer.
+     */
+    private void processHandlerExtensions(CodegenOperation operation) {
+        CodegenParameter body = operation.bodyParam;
+        boolean jsonBody = body != null && !Boolean.TRUE.equals(body.isBinary) && !Boolean.TRUE.equals(body.isFile)
+                && consumesJson(operation);
+        operation.vendorExtensions.put("x-json-body", jsonBody);
+        operation.vendorExtensions.put("x-body-type", jsonBody ? body.dataType : "Void");
+
+        Object operationBlocking = operation.vendorExtensions.get("x-blocking");
+        operation.vendorExtensions.put("x-blocking",
+                operationBlocking == null ? blocking : Boolean.parseBoolean(operationBlocking.toString()));
+
+        Object bufferSize = operation.vendorExtensions.get("x-response-buffer-size");
+        int size = responseBufferSize;
+        if (bufferSize != null) {
+            try {
+                size = Integer.parseInt(bufferSize.toString().trim());
+            } catch (NumberFormatException e) {
+                size = -1;
+            }
+            if (size < 0) {
+                LOGGER.warn("Ignoring the invalid x-response-buffer-size of " + operation.operationId + ": " + bufferSize);
+                size = responseBufferSize;
+            }
+        }
+        operation.vendorExtensions.put("x-response-buffer-size", size);
+    }
+
+    /**
+     * Whether the request body of an operation is only JSON, as the handler parses it with Jackson.
+     * The bodies of other media types, e.g. text/plain, are left to the operation to read.
+     */
+    private static boolean consumesJson(CodegenOperation operation) {
+        if (operation.consumes == null) {
+            return true;
+        }
+        for (Map<String, String> consumes : operation.consumes) {
+            if (!JSON_MEDIA_TYPE.matcher(consumes.get("mediaType")).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void postProcessModelProperty(CodegenModel model, CodegenProperty property) {
         super.postProcessModelProperty(model, property);
@@ -193,9 +278,21 @@ public class JavaUndertowServerCodegen extends AbstractJavaCodegen {
     @Override
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
         generateJSONSpecFile(objs);
+        // for the request body types of the handlers
+        handlerImports.add("java.util.List");
+        handlerImports.add("java.util.Map");
+        objs.put("handlerImports", handlerImports);
         return super.postProcessSupportingFileData(objs);
     }
 
+    public void setBlocking(boolean blocking) {
+        this.blocking = blocking;
+    }
+
+    public void setResponseBufferSize(int responseBufferSize) {
+        this.responseBufferSize = responseBufferSize;
+    }
+
     @Override
     public String toApiName(String name) {
         if (name.length() == 0) {
@@ -25,6 +25,7 @@ import io.swagger.v3.oas.models.media.Schema;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.CodegenModel;
 import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
 import org.openapitools.codegen.CodegenProperty;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.SupportingFile;
@@ -32,6 +33,7 @@ import org.openapitools.codegen.utils.URLPathUtils;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -71,6 +73,7 @@ public class JavaVertXServerCodegen extends AbstractJavaCodegen {
         apiTemplateFiles.put("api.mustache", ".java");
         apiTemplateFiles.put("apiVerticle.mustache", "Verticle.java");
         apiTemplateFiles.put("apiException.mustache", "Exception.java");
+        apiTemplateFiles.put("apiMessages.mustache", "Messages.java");
 
         embeddedTemplateDir = templateDir = "JavaVertXServer";
 
@@ -148,6 +151,9 @@ public class JavaVertXServerCodegen extends AbstractJavaCodegen {
         supportingFiles.add(new SupportingFile("MainApiException.mustache",
                 sourceFolder + File.separator + rootPackage.replace(".", File.separator),
                 "MainApiException.java"));
+        supportingFiles.add(new SupportingFile("LocalMessageCodec.mustache",
+                sourceFolder + File.separator + rootPackage.replace(".", File.separator),
+                "LocalMessageCodec.java"));
 
         writeOptional(outputFolder, new SupportingFile("vertx-default-jul-logging.mustache",
                 resourceFolder, "vertx-default-jul-logging.properties"));
@@ -185,7 +191,24 @@ public class JavaVertXServerCodegen extends AbstractJavaCodegen {
                     operation.path = camelizePath(operation.path);
                 }
 
+                // accessors of the parameters in the request message of the operation
+                for (CodegenParameter param : operation.allParams) {
+                    param.vendorExtensions.put("x-message-accessor", camelize(param.paramName));
+                }
+
+            }
+        }
+
+        // the messages do not throw the exceptions of the API
+        List<Map<String, String>> imports = (List<Map<String, String>>) newObjs.get("imports");
+        if (imports != null) {
+            List<Map<String, String>> messageImports = new ArrayList<Map<String, String>>();
+            for (Map<String, String> im : imports) {
+                if (!importMapping.get("MainApiException").equals(im.get("import"))) {
+                    messageImports.add(im);
+                }
             }
+            newObjs.put("messageImports", messageImports);
         }
         return newObjs;
     }
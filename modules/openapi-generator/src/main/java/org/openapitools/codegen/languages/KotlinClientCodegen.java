@@ -32,10 +32,12 @@ public class KotlinClientCodegen extends AbstractKotlinCodegen {
 
     public static final String DATE_LIBRARY = "dateLibrary";
     public static final String COLLECTION_TYPE = "collectionType";
+    public static final String USE_COROUTINES = "useCoroutines";
     private static final Logger LOGGER = LoggerFactory.getLogger(KotlinClientCodegen.class);
 
     protected String dateLibrary = DateLibrary.JAVA8.value;
     protected String collectionType = CollectionType.ARRAY.value;
+    protected boolean useCoroutines = false;
 
     public enum DateLibrary {
         STRING("string"),
@@ -94,6 +96,8 @@ public class KotlinClientCodegen extends AbstractKotlinCodegen {
         collectionOptions.put(CollectionType.LIST.value, "kotlin.collections.List");
         collectionType.setEnum(collectionOptions);
         cliOptions.add(collectionType);
+
+        cliOptions.add(CliOption.newBoolean(USE_COROUTINES, "Generate suspend API functions that await non-blocking OkHttp calls (kotlinx.coroutines, Kotlin 1.3)"));
     }
 
     public CodegenType getTag() {
@@ -116,6 +120,10 @@ public class KotlinClientCodegen extends AbstractKotlinCodegen {
         this.collectionType = collectionType;
     }
 
+    public void setUseCoroutines(boolean useCoroutines) {
+        this.useCoroutines = useCoroutines;
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -149,6 +157,10 @@ public class KotlinClientCodegen extends AbstractKotlinCodegen {
             typeMapping.put("list", "kotlin.collections.List");
         }
 
+        if (additionalProperties.containsKey(USE_COROUTINES)) {
+            setUseCoroutines(convertPropertyToBooleanAndWriteBack(USE_COROUTINES));
+        }
+
         supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
         supportingFiles.add(new SupportingFile("build.gradle.mustache", "", "build.gradle"));
         supportingFiles.add(new SupportingFile("settings.gradle.mustache", "", "settings.gradle"));
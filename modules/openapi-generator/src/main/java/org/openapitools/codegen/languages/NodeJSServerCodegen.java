@@ -28,8 +28,10 @@ import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.info.Info;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenModel;
 import org.openapitools.codegen.CodegenOperation;
 import org.openapitools.codegen.CodegenParameter;
+import org.openapitools.codegen.CodegenProperty;
 import org.openapitools.codegen.CodegenResponse;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.DefaultCodegen;
@@ -43,14 +45,19 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static org.openapitools.codegen.utils.StringUtils.underscore;
+
 public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeJSServerCodegen.class);
@@ -58,6 +65,17 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
     public static final String GOOGLE_CLOUD_FUNCTIONS = "googleCloudFunctions";
     public static final String EXPORTED_NAME = "exportedName";
     public static final String SERVER_PORT = "serverPort";
+    public static final String COMPILED_ROUTES = "compiledRoutes";
+    public static final String MAX_BODY_SIZE = "maxBodySize";
+
+    private static final Map<String, String> SEPARATORS = new HashMap<String, String>();
+
+    static {
+        SEPARATORS.put("csv", ",");
+        SEPARATORS.put("ssv", " ");
+        SEPARATORS.put("tsv", "\t");
+        SEPARATORS.put("pipes", "|");
+    }
 
     protected String apiVersion = "1.0.0";
     protected String projectName = "openapi-server";
@@ -65,6 +83,9 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
 
     protected boolean googleCloudFunctions;
     protected String exportedName;
+    protected boolean compiledRoutes;
+    protected long maxBodySize = 1048576;
+    protected String basePath = "";
 
     public NodeJSServerCodegen() {
         super();
@@ -127,6 +148,14 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
                         + "basePath. This does not affect normal standalone nodejs server code."));
         cliOptions.add(new CliOption(SERVER_PORT,
                 "TCP port to listen on."));
+        cliOptions.add(CliOption.newBoolean(COMPILED_ROUTES,
+                "Generate a route table and a validator of the parameters of each operation, so that the server "
+                        + "matches and validates the requests without the swagger-tools middleware interpreting the "
+                        + "OpenAPI document. The body of a request is only read by the operations having one, and only the "
+                        + "presence of the required properties of a JSON body is validated, not their values."));
+        cliOptions.add(new CliOption(MAX_BODY_SIZE,
+                "The maximum size in bytes of the body of a request read by the compiled routes, a larger body being "
+                        + "answered with a 413 (Payload Too Large).").defaultValue(String.valueOf(maxBodySize)));
     }
 
     @Override
@@ -190,6 +219,10 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
             String stringToMatch = File.separator + "controllers" + File.separator;
             String replacement = File.separator + implFolder + File.separator;
             result = result.replaceAll(Pattern.quote(stringToMatch), replacement);
+        } else if (templateName.equals("validator.mustache")) {
+            String stringToMatch = File.separator + "controllers" + File.separator;
+            String replacement = File.separator + "validators" + File.separator;
+            result = result.replaceAll(Pattern.quote(stringToMatch), replacement);
         }
         return result;
     }
@@ -237,15 +270,44 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
         exportedName = name;
     }
 
+    public boolean getCompiledRoutes() {
+        return compiledRoutes;
+    }
+
+    public void setCompiledRoutes(boolean value) {
+        compiledRoutes = value;
+    }
+
+    public long getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public void setMaxBodySize(long value) {
+        maxBodySize = value;
+    }
+
     @Override
     public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
         @SuppressWarnings("unchecked")
         Map<String, Object> objectMap = (Map<String, Object>) objs.get("operations");
         @SuppressWarnings("unchecked")
         List<CodegenOperation> operations = (List<CodegenOperation>) objectMap.get("operation");
+        Map<String, CodegenModel> models = new HashMap<String, CodegenModel>();
+        for (Object model : allModels) {
+            @SuppressWarnings("unchecked")
+            CodegenModel cm = (CodegenModel) ((Map<String, Object>) model).get("model");
+            models.put(cm.classname, cm);
+        }
         for (CodegenOperation operation : operations) {
             operation.httpMethod = operation.httpMethod.toLowerCase(Locale.ROOT);
 
+            if (getCompiledRoutes()) {
+                List<String> pathParams = pathParameterNames(operation.path);
+                for (CodegenParameter param : operation.allParams) {
+                    processValidatorExtensions(operation, param, pathParams, models);
+                }
+            }
+
             List<CodegenParameter> params = operation.allParams;
             if (params != null && params.size() == 0) {
                 operation.allParams = null;
@@ -272,6 +334,167 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
         return objs;
     }
 
+    /**
+     * Set the vendor extensions of a parameter used by the validator of its operation:
+     * <ul>
+     * <li>x-raw: the expression reading the raw value of the parameter from the request</li>
+     * <li>x-reader: the function of the router reading a single value or a list</li>
+     * <li>x-converter: the function of the router converting the value, or each element of a list</li>
+     * <li>x-pattern-name and x-pattern: the name and expression of the regular expression created when the module is loaded</li>
+     * <li>x-values-name and x-values: the name and elements of the array of the allowed values</li>
+     * <li>x-required-name and x-required: the name and elements of the array of the required properties of a body</li>
+     * </ul>
+     * The properties of a body are not validated, except for the presence of the required ones.
+     */
+    protected void processValidatorExtensions(CodegenOperation op, CodegenParameter param, List<String> pathParams,
+                                              Map<String, CodegenModel> models) {
+        Map<String, Object> extensions = param.vendorExtensions;
+        String constant = underscore(op.nickname + "_" + param.baseName).toUpperCase(Locale.ROOT);
+        CodegenProperty items = param.isContainer ? param.items : null;
+        String name = jsString(param.baseName);
+
+        String raw;
+        if (param.isPathParam) {
+            raw = "request.path[" + (pathParams.indexOf(param.baseName) + 1) + "]";
+        } else if (param.isQueryParam) {
+            raw = "request.query[" + name + "]";
+        } else if (param.isHeaderParam) {
+            raw = "request.headers[" + jsString(param.baseName.toLowerCase(Locale.ROOT)) + "]";
+        } else if (param.isCookieParam) {
+            raw = "router.cookies(request)[" + name + "]";
+        } else if (param.isFormParam) {
+            raw = "router.form(request)[" + name + "]";
+        } else if (param.isBinary || param.isFile) {
+            raw = "router.raw(request.body)";
+        } else {
+            raw = "router.json(request.body)";
+        }
+        if (items != null && !param.isBodyParam) {
+            String separator = SEPARATORS.get(param.collectionFormat);
+            raw = param.isCollectionFormatMulti
+                    ? "router.all(" + raw + ")"
+                    : "router.split(" + raw + ", " + jsString(separator == null ? "," : separator) + ")";
+        } else if (param.isQueryParam || param.isFormParam) {
+            // repeated query and form parameters are parsed into arrays
+            raw = "router.first(" + raw + ")";
+        }
+        extensions.put("x-raw", raw);
+        extensions.put("x-reader", param.isListContainer ? "parameters" : "parameter");
+
+        if (param.isBodyParam) {
+            if (param.isBinary || param.isFile) {
+                extensions.put("x-converter", "identity");
+            } else if (param.isListContainer) {
+                extensions.put("x-converter", items != null && items.isModel ? "object" : "identity");
+            } else {
+                extensions.put("x-converter", param.isModel || param.isMapContainer ? "object" : "identity");
+            }
+        } else if (items != null) {
+            extensions.put("x-converter", converter(items.isInteger || items.isLong,
+                    items.isNumber || items.isFloat || items.isDouble, items.isBoolean, items.isFile || items.isBinary));
+        } else {
+            extensions.put("x-converter", converter(param.isInteger || param.isLong,
+                    param.isNumber || param.isFloat || param.isDouble, param.isBoolean, param.isFile || param.isBinary));
+        }
+
+        if (param.pattern != null && !param.isBodyParam) {
+            String pattern = param.pattern;
+            String flags = "";
+            int end = pattern.lastIndexOf('/');
+            if (pattern.startsWith("/") && end > 0) {
+                // the pattern is a regular expression literal, e.g. /[a-z]/i
+                flags = pattern.substring(end + 1).replaceAll("[^imsu]", "");
+                pattern = pattern.substring(1, end);
+            }
+            extensions.put("x-pattern-name", constant + "_PATTERN");
+            extensions.put("x-pattern", "new RegExp(" + jsString(pattern) + (flags.isEmpty() ? "" : ", " + jsString(flags)) + ")");
+        }
+
+        Map<String, Object> allowableValues = items != null ? items.allowableValues : param.allowableValues;
+        if (allowableValues != null && allowableValues.get("values") instanceof List && !param.isBodyParam) {
+            List<String> values = new ArrayList<String>();
+            for (Object value : (List<?>) allowableValues.get("values")) {
+                values.add(value instanceof String ? jsString((String) value) : String.valueOf(value));
+            }
+            extensions.put("x-values-name", constant + "_VALUES");
+            extensions.put("x-values", values);
+        }
+
+        CodegenModel model = null;
+        if (param.isBodyParam && param.isModel) {
+            model = models.get(param.dataType);
+        } else if (param.isBodyParam && items != null && items.isModel) {
+            model = models.get(items.dataType);
+        }
+        if (model != null && !model.requiredVars.isEmpty()) {
+            List<String> required = new ArrayList<String>();
+            for (CodegenProperty property : model.requiredVars) {
+                required.add(jsString(property.baseName));
+            }
+            extensions.put("x-required-name", constant + "_REQUIRED");
+            extensions.put("x-required", required);
+        }
+
+        extensions.put("x-validated", !param.isBodyParam && (param.hasValidation
+                || extensions.containsKey("x-pattern-name") || extensions.containsKey("x-values-name")));
+    }
+
+    private static String converter(boolean isInteger, boolean isNumber, boolean isBoolean, boolean isFile) {
+        if (isInteger) {
+            return "integer";
+        } else if (isNumber) {
+            return "number";
+        } else if (isBoolean) {
+            return "boolean";
+        } else if (isFile) {
+            return "identity";
+        }
+        return "string";
+    }
+
+    /**
+     * Quote a string as a JavaScript string literal.
+     */
+    private static String jsString(String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'").replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t") + "'";
+    }
+
+    private static final Pattern PATH_PARAMETER = Pattern.compile("\\{([^}]+)\\}");
+
+    private static List<String> pathParameterNames(String path) {
+        List<String> names = new ArrayList<String>();
+        Matcher matcher = PATH_PARAMETER.matcher(path);
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        return names;
+    }
+
+    /**
+     * The regular expression literal matching a path, capturing its parameters in order.
+     */
+    static String pathPattern(String path) {
+        StringBuilder pattern = new StringBuilder("/^");
+        Matcher matcher = PATH_PARAMETER.matcher(path);
+        int start = 0;
+        while (matcher.find()) {
+            pattern.append(escapeRegex(path.substring(start, matcher.start()))).append("([^/]+)");
+            start = matcher.end();
+        }
+        return pattern.append(escapeRegex(path.substring(start))).append("$/").toString();
+    }
+
+    private static String escapeRegex(String value) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            if ("\\^$.|?*+()[]{}/".indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
     @SuppressWarnings("unchecked")
     private static List<Map<String, Object>> getOperations(Map<String, Object> objs) {
         List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
@@ -331,6 +554,24 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
             setExportedName((String) additionalProperties.get(EXPORTED_NAME));
         }
 
+        if (additionalProperties.containsKey(COMPILED_ROUTES)) {
+            setCompiledRoutes(convertPropertyToBooleanAndWriteBack(COMPILED_ROUTES));
+        }
+
+        if (additionalProperties.containsKey(MAX_BODY_SIZE)) {
+            String value = additionalProperties.get(MAX_BODY_SIZE).toString();
+            try {
+                long size = Long.parseLong(value);
+                if (size < 0) {
+                    throw new NumberFormatException();
+                }
+                setMaxBodySize(size);
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Ignoring the invalid " + MAX_BODY_SIZE + " " + value + ", using " + maxBodySize);
+            }
+        }
+        additionalProperties.put(MAX_BODY_SIZE, maxBodySize);
+
         /*
          * Supporting Files.  You can write single files for the generator with the
          * entire object tree available.  If the input file has a suffix of `.mustache
@@ -344,10 +585,16 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
                 "api",
                 "openapi.yaml")
         );
+        if (getCompiledRoutes()) {
+            // the routes and the validators replace the swagger-tools middleware
+            supportingFiles.add(new SupportingFile("router.mustache", "utils", "router.js"));
+            supportingFiles.add(new SupportingFile("routes.mustache", "", "routes.js"));
+            apiTemplateFiles.put("validator.mustache", "Validator.js");
+        }
         if (getGoogleCloudFunctions()) {
-            writeOptional(outputFolder, new SupportingFile("index-gcf.mustache", "", "index.js"));
+            writeOptional(outputFolder, new SupportingFile(getCompiledRoutes() ? "index-gcf-routes.mustache" : "index-gcf.mustache", "", "index.js"));
         } else {
-            writeOptional(outputFolder, new SupportingFile("index.mustache", "", "index.js"));
+            writeOptional(outputFolder, new SupportingFile(getCompiledRoutes() ? "index-routes.mustache" : "index.mustache", "", "index.js"));
         }
         writeOptional(outputFolder, new SupportingFile("package.mustache", "", "package.json"));
         writeOptional(outputFolder, new SupportingFile("README.mustache", "", "README.md"));
@@ -364,6 +611,8 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
         String host =  URLPathUtils.getProtocolAndHost(url);
         String port = URLPathUtils.getPort(url, defaultServerPort) ;
         String basePath = url.getPath();
+        this.basePath = basePath.endsWith("/") ? basePath.substring(0, basePath.length() - 1) : basePath;
+        this.additionalProperties.put("routeBasePath", this.basePath);
 
         if (additionalProperties.containsKey(SERVER_PORT)) {
             port = additionalProperties.get(SERVER_PORT).toString();
@@ -437,9 +686,48 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
             List<Map<String, Object>> opsByPathList = sortOperationsByPath(ops);
             operations.put("operationsByPath", opsByPathList);
         }
+        if (getCompiledRoutes()) {
+            addRoutes(objs);
+        }
         return super.postProcessSupportingFileData(objs);
     }
 
+    /**
+     * Add the routes of the operations: those without path parameters are looked up by their method
+     * and path, the others are matched by a regular expression, in the order of their paths.
+     */
+    @SuppressWarnings("unchecked")
+    private void addRoutes(Map<String, Object> objs) {
+        List<Map<String, Object>> staticRoutes = new ArrayList<Map<String, Object>>();
+        List<Map<String, Object>> dynamicRoutes = new ArrayList<Map<String, Object>>();
+        Map<String, Object> apiInfo = (Map<String, Object>) objs.get("apiInfo");
+        for (Map<String, Object> api : (List<Map<String, Object>>) apiInfo.get("apis")) {
+            Map<String, Object> operations = (Map<String, Object>) api.get("operations");
+            for (CodegenOperation op : (List<CodegenOperation>) operations.get("operation")) {
+                Map<String, Object> route = new HashMap<String, Object>();
+                route.put("classname", operations.get("classname"));
+                route.put("method", op.httpMethod.toUpperCase(Locale.ROOT));
+                route.put("path", basePath + op.path);
+                route.put("hasBody", op.getHasBodyParam() || op.getHasFormParams());
+                route.put("operation", op);
+                if (op.getHasPathParams()) {
+                    route.put("pattern", pathPattern(basePath + op.path));
+                    dynamicRoutes.add(route);
+                } else {
+                    staticRoutes.add(route);
+                }
+            }
+        }
+        Collections.sort(dynamicRoutes, new Comparator<Map<String, Object>>() {
+            @Override
+            public int compare(Map<String, Object> one, Map<String, Object> another) {
+                return URLPathUtils.comparePaths((String) one.get("path"), (String) another.get("path"));
+            }
+        });
+        objs.put("staticRoutes", staticRoutes);
+        objs.put("dynamicRoutes", dynamicRoutes);
+    }
+
     @Override
     public String removeNonNameElementToCamelCase(String name) {
         return removeNonNameElementToCamelCase(name, "[-:;#]");
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.languages;
+
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
+import org.openapitools.codegen.CodegenProperty;
+import org.openapitools.codegen.SupportingFile;
+import org.openapitools.codegen.utils.URLPathUtils;
+
+import java.io.File;
+import java.util.*;
+
+import static org.openapitools.codegen.utils.StringUtils.underscore;
+
+/**
+ * Python server running on aiohttp. The models, their validation and the deserialization utilities
+ * are those of the python-flask generator; the controllers are coroutines, called by the handlers of
+ * a routing table with the parameters parsed and validated by a function generated for each
+ * operation, instead of by Connexion interpreting the OpenAPI document for every request.
+ */
+public class PythonAiohttpServerCodegen extends PythonFlaskConnexionServerCodegen {
+
+    private static final String AIOHTTP = "aiohttp/";
+
+    private static final Map<String, String> SEPARATORS = new HashMap<String, String>();
+
+    static {
+        SEPARATORS.put("csv", ",");
+        SEPARATORS.put("ssv", " ");
+        SEPARATORS.put("tsv", "\\t");
+        SEPARATORS.put("pipes", "|");
+    }
+
+    // models deserialized by the validators
+    protected Set<String> validatorModels = new TreeSet<String>();
+    // names of the required attributes of the models, checked by the validators after deserialization
+    protected Map<String, List<String>> requiredAttributes = new TreeMap<String, List<String>>();
+
+    public PythonAiohttpServerCodegen() {
+        super();
+
+        outputFolder = "generated-code/python-aiohttp";
+
+        apiTemplateFiles.remove("controller.mustache");
+        apiTemplateFiles.put(AIOHTTP + "controller.mustache", ".py");
+        apiTestTemplateFiles.remove("controller_test.mustache");
+        apiTestTemplateFiles.put(AIOHTTP + "controller_test.mustache", ".py");
+
+        replaceSupportingFile("README.mustache");
+        replaceSupportingFile("setup.mustache");
+        replaceSupportingFile("test-requirements.mustache");
+        replaceSupportingFile("requirements.mustache");
+        replaceSupportingFile("travis.mustache");
+
+        for (int i = 0; i < cliOptions.size(); i++) {
+            if (SUPPORT_PYTHON2.equals(cliOptions.get(i).getOpt())) {
+                cliOptions.remove(i);
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void processOpts() {
+        if (Boolean.parseBoolean(String.valueOf(additionalProperties.get(SUPPORT_PYTHON2)))) {
+            throw new IllegalArgumentException(SUPPORT_PYTHON2 + " is not supported by " + getName()
+                    + ", as aiohttp requires Python 3.5.3+");
+        }
+
+        super.processOpts();
+
+        replaceSupportingFile("__main__.mustache");
+        replaceSupportingFile("encoder.mustache");
+        replaceSupportingFile("__init__test.mustache");
+        // the routes and the validators replace the OpenAPI document read by Connexion
+        supportingFiles.remove(new SupportingFile("openapi.mustache", packageName + File.separatorChar + "openapi", "openapi.yaml"));
+        supportingFiles.add(new SupportingFile(AIOHTTP + "routes.mustache", packageName, "routes.py"));
+        supportingFiles.add(new SupportingFile(AIOHTTP + "validators.mustache", packageName, "validators.py"));
+    }
+
+    /**
+     * Use the aiohttp version of a supporting file of python-flask.
+     */
+    private void replaceSupportingFile(String templateFile) {
+        for (SupportingFile supportingFile : supportingFiles) {
+            if (templateFile.equals(supportingFile.templateFile)) {
+                supportingFile.templateFile = AIOHTTP + templateFile;
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "python-aiohttp";
+    }
+
+    @Override
+    public String getHelp() {
+        return "Generates a Python server using aiohttp, with asynchronous controllers, a routing table "
+                + "and generated validators of the request parameters.";
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, Object> postProcessModels(Map<String, Object> objs) {
+        for (Map<String, Object> model : (List<Map<String, Object>>) objs.get("models")) {
+            CodegenModel codegenModel = (CodegenModel) model.get("model");
+            List<String> required = new ArrayList<String>();
+            for (CodegenProperty var : codegenModel.vars) {
+                if (var.required) {
+                    required.add(var.name);
+                }
+            }
+            if (!required.isEmpty()) {
+                requiredAttributes.put(codegenModel.classname, required);
+            }
+        }
+        return super.postProcessModels(objs);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
+        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+        List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+        for (CodegenOperation op : ops) {
+            for (CodegenParameter param : op.allParams) {
+                processValidatorExtensions(op, param);
+            }
+        }
+        return super.postProcessOperationsWithModels(objs, allModels);
+    }
+
+    /**
+     * Set the vendor extensions of a parameter used by the validator of its operation:
+     * <ul>
+     * <li>x-reader: the function of the validator reading a single value, a list or a dict</li>
+     * <li>x-converter: the function converting the value, or each element of a list or dict</li>
+     * <li>x-separator: the separator of the elements of a list, unless they are repeated</li>
+     * <li>x-pattern-name: the name of the regular expression compiled when the module is loaded</li>
+     * <li>x-values-name and x-values: the name and elements of the set of the allowed values</li>
+     * </ul>
+     */
+    protected void processValidatorExtensions(CodegenOperation op, CodegenParameter param) {
+        Map<String, Object> extensions = param.vendorExtensions;
+        String constant = "_" + underscore(op.operationId + "_" + param.paramName).toUpperCase(Locale.ROOT);
+
+        if (param.isMapContainer) {
+            extensions.put("x-reader", "_mapping");
+        } else if (param.isListContainer) {
+            extensions.put("x-reader", "_parameters");
+        } else {
+            extensions.put("x-reader", "_parameter");
+        }
+
+        if (param.isBodyParam) {
+            if (param.isBinary || param.isFile) {
+                extensions.put("x-converter", "_identity");
+            } else if (param.isContainer && param.items != null) {
+                extensions.put("x-converter", jsonConverter(param.items.complexType, param.items.isDate, param.items.isDateTime));
+            } else {
+                extensions.put("x-converter", jsonConverter(param.baseType, param.isDate, param.isDateTime));
+            }
+            return;
+        }
+
+        CodegenProperty items = param.isContainer ? param.items : null;
+        if (items != null) {
+            extensions.put("x-converter", converter(items.isInteger || items.isLong, items.isNumber || items.isFloat || items.isDouble,
+                    items.isBoolean, items.isDate, items.isDateTime, items.isFile || items.isBinary));
+            String separator = SEPARATORS.get(param.collectionFormat);
+            extensions.put("x-separator", separator == null ? "," : separator);
+        } else {
+            extensions.put("x-converter", converter(param.isInteger || param.isLong, param.isNumber || param.isFloat || param.isDouble,
+                    param.isBoolean, param.isDate, param.isDateTime, param.isFile || param.isBinary));
+        }
+
+        if (extensions.containsKey("x-regex")) {
+            extensions.put("x-pattern-name", constant + "_PATTERN");
+        }
+
+        Map<String, Object> allowableValues = items != null ? items.allowableValues : param.allowableValues;
+        if (allowableValues != null && allowableValues.get("values") instanceof List) {
+            List<String> values = new ArrayList<String>();
+            for (Object value : (List<?>) allowableValues.get("values")) {
+                values.add(value instanceof String ? "'" + ((String) value).replace("\\", "\\\\").replace("'", "\\'") + "'" : String.valueOf(value));
+            }
+            extensions.put("x-values-name", constant + "_VALUES");
+            extensions.put("x-values", values);
+        }
+
+        extensions.put("x-validated", param.hasValidation || extensions.containsKey("x-pattern-name")
+                || extensions.containsKey("x-values-name"));
+    }
+
+    private static String converter(boolean isInteger, boolean isNumber, boolean isBoolean, boolean isDate,
+                                    boolean isDateTime, boolean isFile) {
+        if (isInteger) {
+            return "int";
+        } else if (isNumber) {
+            return "float";
+        } else if (isBoolean) {
+            return "_boolean";
+        } else if (isDate) {
+            return "util.deserialize_date";
+        } else if (isDateTime) {
+            return "util.deserialize_datetime";
+        } else if (isFile) {
+            return "_identity";
+        }
+        return "str";
+    }
+
+    /**
+     * The converter of a value of a JSON body, which only needs to convert the models and the dates.
+     */
+    private String jsonConverter(String model, boolean isDate, boolean isDateTime) {
+        if (model != null && !languageSpecificPrimitives.contains(model)) {
+            validatorModels.add(model);
+            return model + ".from_dict";
+        } else if (isDate) {
+            return "util.deserialize_date";
+        } else if (isDateTime) {
+            return "util.deserialize_datetime";
+        }
+        return "_identity";
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        Set<String> models = new TreeSet<String>(validatorModels);
+        models.addAll(requiredAttributes.keySet());
+        List<Map<String, String>> imports = new ArrayList<Map<String, String>>();
+        for (String model : models) {
+            imports.add(Collections.singletonMap("import", toModelImport(model)));
+        }
+        objs.put("validatorImports", imports);
+
+        List<Map<String, Object>> required = new ArrayList<Map<String, Object>>();
+        for (Map.Entry<String, List<String>> entry : requiredAttributes.entrySet()) {
+            Map<String, Object> model = new HashMap<String, Object>();
+            model.put("model", entry.getKey());
+            model.put("attributes", entry.getValue());
+            required.add(model);
+        }
+        objs.put("requiredAttributes", required);
+
+        List<Map<String, Object>> routes = new ArrayList<Map<String, Object>>();
+        Map<String, Object> apiInfo = (Map<String, Object>) objs.get("apiInfo");
+        for (Map<String, Object> api : (List<Map<String, Object>>) apiInfo.get("apis")) {
+            Map<String, Object> operations = (Map<String, Object>) api.get("operations");
+            for (CodegenOperation op : (List<CodegenOperation>) operations.get("operation")) {
+                Map<String, Object> route = new HashMap<String, Object>();
+                route.put("classFilename", api.get("classFilename"));
+                route.put("operation", op);
+                routes.add(route);
+            }
+        }
+        // aiohttp tries the routes in the order they are added
+        Collections.sort(routes, new Comparator<Map<String, Object>>() {
+            @Override
+            public int compare(Map<String, Object> one, Map<String, Object> another) {
+                return URLPathUtils.comparePaths(((CodegenOperation) one.get("operation")).path, ((CodegenOperation) another.get("operation")).path);
+            }
+        });
+        objs.put("routes", routes);
+
+        return super.postProcessSupportingFileData(objs);
+    }
+}
@@ -81,8 +81,12 @@ public class PythonFlaskConnexionServerCodegen extends DefaultCodegen implements
         typeMapping.put("DateTime", "datetime");
         typeMapping.put("object", "object");
         typeMapping.put("file", "file");
+        typeMapping.put("ByteArray", "str");
         typeMapping.put("UUID", "str");
 
+        // the models import the generated models, not the default Java classes, e.g. java.io.File
+        importMapping.clear();
+
         // from https://docs.python.org/3/reference/lexical_analysis.html#keywords
         setReservedWordsLowerCase(
                 Arrays.asList(
@@ -487,6 +491,12 @@ public class PythonFlaskConnexionServerCodegen extends DefaultCodegen implements
             operationId = "call_" + operationId;
         }
 
+        // operationId starts with a number
+        if (operationId.matches("^\\d.*")) {
+            LOGGER.warn(operationId + " (starting with a number) cannot be used as method name. Renamed to " + org.openapitools.codegen.utils.StringUtils.underscore(sanitizeName("call_" + operationId)));
+            operationId = "call_" + operationId;
+        }
+
         return org.openapitools.codegen.utils.StringUtils.underscore(sanitizeName(operationId));
     }
 
@@ -659,6 +669,21 @@ public class PythonFlaskConnexionServerCodegen extends DefaultCodegen implements
 
     @Override
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
+        // the models only import the generated models, the mapped imports and modules such as re
+        List<Map<String, String>> imports = (List<Map<String, String>>) objs.get("imports");
+        if (imports != null && globalOpenAPI != null) {
+            Set<String> modelImports = new HashSet<String>(importMapping.values());
+            for (String name : ModelUtils.getSchemas(globalOpenAPI).keySet()) {
+                modelImports.add(toModelImport(toModelName(name)));
+            }
+            for (Iterator<Map<String, String>> it = imports.iterator(); it.hasNext(); ) {
+                String modelImport = it.next().get("import");
+                if (!modelImport.startsWith("import ") && !modelImports.contains(modelImport)) {
+                    it.remove();
+                }
+            }
+        }
+
         // process enum in models
         return postProcessModelsEnum(objs);
     }
@@ -55,6 +55,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 
 public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
@@ -65,6 +68,8 @@ public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
 
     private static final String NO_FORMAT = "%%NO_FORMAT";
 
+    private static final Pattern PATH_PARAM = Pattern.compile("\\{([^{}]*)\\}");
+
     protected String apiVersion = "1.0.0";
     protected String serverHost = "localhost";
     protected int serverPort = 8080;
@@ -73,7 +78,7 @@ public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
     protected String packageName;
     protected String packageVersion;
     protected String externCrateName;
-    protected Map<String, Map<String, String>> pathSetMap = new HashMap<String, Map<String, String>>();
+    protected Map<String, Map<String, Object>> pathSetMap = new HashMap<String, Map<String, Object>>();
 
     public RustServerCodegen() {
         super();
@@ -486,9 +491,9 @@ public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
     public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Schema> definitions, OpenAPI openAPI) {
         CodegenOperation op = super.fromOperation(path, httpMethod, operation, definitions, openAPI);
 
-        // The Rust code will need to contain a series of regular expressions.
-        // For performance, we'll construct these at start-of-day and re-use
-        // them.  That means we need labels for them.
+        // The Rust code matches the request paths against a tree of the path
+        // segments, and a series of regular expressions for the paths the
+        // tree can't match, which identify the paths with labels.
         //
         // Construct a Rust constant (uppercase) token name, and ensure it's
         // unique using a numeric tie-breaker if required.
@@ -497,7 +502,7 @@ public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
         int pathIdTiebreaker = 2;
         boolean found = false;
         while (pathSetMap.containsKey(pathId)) {
-            Map<String, String> pathSetEntry = pathSetMap.get(pathId);
+            Map<String, Object> pathSetEntry = pathSetMap.get(pathId);
             if (pathSetEntry.get("path").equals(op.path)) {
                 found = true;
                 break;
@@ -509,19 +514,42 @@ public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
         // Save off the regular expression and path details in the
         // "pathSetMap", which we'll add to the source document that will be
         // processed by the templates.
+        List<String> pathParamNames = pathParamNames(op.path);
         if (!found) {
-            Map<String, String> pathSetEntry = new HashMap<String, String>();
+            Map<String, Object> pathSetEntry = new HashMap<String, Object>();
             pathSetEntry.put("path", op.path);
             pathSetEntry.put("PATH_ID", pathId);
             if (!op.pathParams.isEmpty()) {
                 pathSetEntry.put("hasPathParams", "true");
             }
-            // Don't prefix with '^' so that the templates can put the
-            // basePath on the front.
-            pathSetEntry.put("pathRegEx", op.path.replace("{", "(?P<").replace("}", ">[^/?#]*)") + "$");
+            pathSetEntry.put("pathParamCount", pathParamNames.size());
+            // Paths whose segments are all either static or a whole
+            // parameter are matched by the tree of the path segments (see
+            // postProcessSupportingFileData), the others by a regular
+            // expression.
+            if (!isTreePath(op.path)) {
+                pathSetEntry.put("isRegexPath", "true");
+                // Don't prefix with '^' so that the templates can put the
+                // basePath on the front.
+                pathSetEntry.put("pathRegEx", op.path.replace("{", "(?P<").replace("}", ">[^/?#]*)") + "$");
+                List<Map<String, Object>> regexParams = new ArrayList<Map<String, Object>>();
+                for (int i = 0; i < pathParamNames.size(); i++) {
+                    Map<String, Object> regexParam = new HashMap<String, Object>();
+                    regexParam.put("name", pathParamNames.get(i));
+                    regexParam.put("index", i);
+                    regexParams.add(regexParam);
+                }
+                pathSetEntry.put("regexParams", regexParams);
+            }
             pathSetMap.put(pathId, pathSetEntry);
         }
 
+        // The path parameters are extracted from the request path by their
+        // position in it.
+        for (CodegenParameter param : op.pathParams) {
+            param.vendorExtensions.put("x-path-index", pathParamNames.indexOf(param.baseName));
+        }
+
         op.vendorExtensions.put("operation_id", org.openapitools.codegen.utils.StringUtils.underscore(op.operationId));
         op.vendorExtensions.put("uppercase_operation_id", org.openapitools.codegen.utils.StringUtils.underscore(op.operationId).toUpperCase(Locale.ROOT));
         op.vendorExtensions.put("path", op.path.replace("{", ":").replace("}", ""));
@@ -880,25 +908,144 @@ public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
         // expression - see fromOperation for details.  Sort it and add an
         // index, and then add it to the objects that we're about to pass to
         // the templates to process.
-        List<Map.Entry<String, Map<String, String>>> pathSetEntryList = new ArrayList(pathSetMap.entrySet());
-        Collections.sort(pathSetEntryList, new Comparator<Map.Entry<String, Map<String, String>>>() {
-            public int compare(Map.Entry<String, Map<String, String>> a, Map.Entry<String, Map<String, String>> b) {
-                return a.getValue().get("path").compareTo(b.getValue().get("path"));
+        List<Map.Entry<String, Map<String, Object>>> pathSetEntryList = new ArrayList(pathSetMap.entrySet());
+        Collections.sort(pathSetEntryList, new Comparator<Map.Entry<String, Map<String, Object>>>() {
+            public int compare(Map.Entry<String, Map<String, Object>> a, Map.Entry<String, Map<String, Object>> b) {
+                return ((String) a.getValue().get("path")).compareTo((String) b.getValue().get("path"));
             }
         });
-        List pathSet = new ArrayList<Map<String, String>>();
+        List pathSet = new ArrayList<Map<String, Object>>();
+        PathNode pathTree = new PathNode(null);
+        int maxPathParams = 0;
+        boolean hasRegexPaths = false;
         int index = 0;
-        for (Map.Entry<String, Map<String, String>> pathSetEntry : pathSetEntryList) {
-            Map<String, String> pathSetEntryValue = pathSetEntry.getValue();
+        for (Map.Entry<String, Map<String, Object>> pathSetEntry : pathSetEntryList) {
+            Map<String, Object> pathSetEntryValue = pathSetEntry.getValue();
             pathSetEntryValue.put("index", Integer.toString(index));
             index++;
             pathSet.add(pathSetEntryValue);
+            maxPathParams = Math.max(maxPathParams, (Integer) pathSetEntryValue.get("pathParamCount"));
+            if (pathSetEntryValue.containsKey("isRegexPath")) {
+                hasRegexPaths = true;
+            } else {
+                pathTree.add((String) pathSetEntryValue.get("path"), pathSetEntryValue);
+            }
         }
         objs.put("pathSet", pathSet);
+        objs.put("maxPathParams", maxPathParams);
+        objs.put("hasRegexPaths", hasRegexPaths);
+
+        // The tree of the path segments is flattened into a list of nodes,
+        // referencing their children by their position in the list.
+        List<Map<String, Object>> pathNodes = new ArrayList<Map<String, Object>>();
+        objs.put("pathTreeRoot", pathTree.flatten(pathNodes));
+        objs.put("pathNodes", pathNodes);
+        objs.put("pathSet", pathSet);
 
         return super.postProcessSupportingFileData(objs);
     }
 
+    /**
+     * The names of the parameters of a path, in the order they appear in it.
+     */
+    static List<String> pathParamNames(String path) {
+        List<String> names = new ArrayList<String>();
+        Matcher matcher = PATH_PARAM.matcher(path);
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        return names;
+    }
+
+    /**
+     * Whether each segment of a path is either static or a whole parameter, e.g. /pet/{petId}
+     * but not /report.{format}, so that the path can be matched by the tree of the path segments.
+     */
+    static boolean isTreePath(String path) {
+        if (!path.startsWith("/")) {
+            return false;
+        }
+        for (String segment : pathSegments(path)) {
+            boolean isParam = segment.startsWith("{") && segment.endsWith("}")
+                    && PATH_PARAM.matcher(segment).matches();
+            if (!isParam && (segment.contains("{") || segment.contains("}"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] pathSegments(String path) {
+        return path.substring(1).split("/", -1);
+    }
+
+    /**
+     * A node of the tree of the path segments, matching a static segment or, when its segment is
+     * null, any segment as a path parameter.
+     */
+    static class PathNode {
+        private final String segment;
+        private Map<String, Object> pathSetEntry;
+        private final Map<String, PathNode> staticChildren = new TreeMap<String, PathNode>();
+        private PathNode paramChild;
+
+        PathNode(String segment) {
+            this.segment = segment;
+        }
+
+        /**
+         * Add a path below this node, keeping the first path when several only differ by the
+         * names of their parameters.
+         */
+        void add(String path, Map<String, Object> pathSetEntry) {
+            PathNode node = this;
+            for (String segment : pathSegments(path)) {
+                if (segment.startsWith("{")) {
+                    if (node.paramChild == null) {
+                        node.paramChild = new PathNode(null);
+                    }
+                    node = node.paramChild;
+                } else {
+                    if (!node.staticChildren.containsKey(segment)) {
+                        node.staticChildren.put(segment, new PathNode(segment));
+                    }
+                    node = node.staticChildren.get(segment);
+                }
+            }
+            if (node.pathSetEntry == null) {
+                node.pathSetEntry = pathSetEntry;
+            } else {
+                LOGGER.warn("Path " + path + " can't be distinguished from " + node.pathSetEntry.get("path"));
+            }
+        }
+
+        /**
+         * Add the children of this node, and recursively their descendants, to a list, the static
+         * segments coming before the parameter, and return their positions in it.
+         */
+        List<Integer> flatten(List<Map<String, Object>> nodes) {
+            List<PathNode> children = new ArrayList<PathNode>(staticChildren.values());
+            if (paramChild != null) {
+                children.add(paramChild);
+            }
+            List<Integer> positions = new ArrayList<Integer>();
+            for (PathNode child : children) {
+                Map<String, Object> node = new HashMap<String, Object>();
+                positions.add(nodes.size());
+                nodes.add(node);
+                if (child.segment != null) {
+                    node.put("segment", child.segment.replace("\\", "\\\\").replace("\"", "\\\""));
+                }
+                if (child.pathSetEntry != null) {
+                    node.put("path", child.pathSetEntry.get("path"));
+                    node.put("index", child.pathSetEntry.get("index"));
+                }
+                node.put("children", child.flatten(nodes));
+            }
+            return positions;
+        }
+    }
+
     @Override
     public String toDefaultValue(Schema p) {
         if (ModelUtils.isBooleanSchema(p)) {
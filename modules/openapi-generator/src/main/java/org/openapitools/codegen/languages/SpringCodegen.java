@@ -21,6 +21,8 @@ import com.samskivert.mustache.Mustache;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
 import org.apache.commons.lang3.tuple.Pair;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.CodegenConstants;
@@ -33,8 +35,10 @@ import org.openapitools.codegen.CodegenSecurity;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.SupportingFile;
 import org.openapitools.codegen.languages.features.BeanValidationFeatures;
+import org.openapitools.codegen.languages.features.GeneratedValidationFeatures;
 import org.openapitools.codegen.languages.features.OptionalFeatures;
 import org.openapitools.codegen.languages.features.PerformBeanValidationFeatures;
+import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.URLPathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,19 +47,29 @@ import java.io.File;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
+import static org.openapitools.codegen.utils.StringUtils.camelize;
+import static org.openapitools.codegen.utils.StringUtils.underscore;
 
 public class SpringCodegen extends AbstractJavaCodegen
         implements BeanValidationFeatures, PerformBeanValidationFeatures,
-        OptionalFeatures {
+        GeneratedValidationFeatures, OptionalFeatures {
     private static final Logger LOGGER = LoggerFactory.getLogger(SpringCodegen.class);
 
+    // the types whose minimum and maximum are checked by the generated validators
+    private static final Set<String> NUMERIC_TYPES = new HashSet<String>(Arrays.asList("Integer", "Long", "Float", "Double", "BigDecimal"));
+
     public static final String TITLE = "title";
     public static final String SERVER_PORT = "serverPort";
     public static final String CONFIG_PACKAGE = "configPackage";
@@ -68,6 +82,7 @@ public class SpringCodegen extends AbstractJavaCodegen
     public static final String JAVA_8 = "java8";
     public static final String ASYNC = "async";
     public static final String REACTIVE = "reactive";
+    public static final String ROUTER_FUNCTIONS = "routerFunctions";
     public static final String RESPONSE_WRAPPER = "responseWrapper";
     public static final String USE_TAGS = "useTags";
     public static final String SPRING_MVC_LIBRARY = "spring-mvc";
@@ -89,10 +104,12 @@ public class SpringCodegen extends AbstractJavaCodegen
     protected boolean java8 = true;
     protected boolean async = false;
     protected boolean reactive = false;
+    protected boolean routerFunctions = false;
     protected String responseWrapper = "";
     protected boolean useTags = false;
     protected boolean useBeanValidation = true;
     protected boolean performBeanValidation = false;
+    protected boolean useGeneratedValidation = false;
     protected boolean implicitHeaders = false;
     protected boolean openapiDocketConfig = false;
     protected boolean apiFirst = false;
@@ -123,11 +140,13 @@ public class SpringCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(JAVA_8, "use java8 default interface", java8));
         cliOptions.add(CliOption.newBoolean(ASYNC, "use async Callable controllers", async));
         cliOptions.add(CliOption.newBoolean(REACTIVE, "wrap responses in Mono/Flux Reactor types (spring-boot only)", reactive));
+        cliOptions.add(CliOption.newBoolean(ROUTER_FUNCTIONS, "route the requests with WebFlux functional endpoints instead of annotated controllers (reactive only)", routerFunctions));
         cliOptions.add(new CliOption(RESPONSE_WRAPPER, "wrap the responses in given type (Future,Callable,CompletableFuture,ListenableFuture,DeferredResult,HystrixCommand,RxObservable,RxSingle or fully qualified type)"));
         cliOptions.add(CliOption.newBoolean(VIRTUAL_SERVICE, "Generates the virtual service. For more details refer - https://github.com/elan-venture/virtualan/wiki"));
         cliOptions.add(CliOption.newBoolean(USE_TAGS, "use tags for creating interface and controller classnames", useTags));
         cliOptions.add(CliOption.newBoolean(USE_BEANVALIDATION, "Use BeanValidation API annotations", useBeanValidation));
         cliOptions.add(CliOption.newBoolean(PERFORM_BEANVALIDATION, "Use Bean Validation Impl. to perform BeanValidation", performBeanValidation));
+        cliOptions.add(CliOption.newBoolean(USE_GENERATED_VALIDATION, "Validate the requests with generated validator classes instead of BeanValidation annotations (Spring MVC only)", useGeneratedValidation));
         cliOptions.add(CliOption.newBoolean(IMPLICIT_HEADERS, "Use of @ApiImplicitParams for headers.", implicitHeaders));
         cliOptions.add(CliOption.newBoolean(OPENAPI_DOCKET_CONFIG, "Generate Spring OpenAPI Docket configuration class.", openapiDocketConfig));
         cliOptions.add(CliOption.newBoolean(API_FIRST, "Generate the API from the OAI spec at server compile time (API first approach)", apiFirst));
@@ -242,6 +261,14 @@ public class SpringCodegen extends AbstractJavaCodegen
             this.setReactive(Boolean.valueOf(additionalProperties.get(REACTIVE).toString()));
         }
 
+        if (additionalProperties.containsKey(ROUTER_FUNCTIONS)) {
+            this.setRouterFunctions(convertPropertyToBoolean(ROUTER_FUNCTIONS));
+            if (this.routerFunctions && !this.reactive) {
+                throw new IllegalArgumentException("The routerFunctions option requires the reactive option");
+            }
+        }
+        writePropertyBack(ROUTER_FUNCTIONS, routerFunctions);
+
         if (additionalProperties.containsKey(RESPONSE_WRAPPER)) {
             this.setResponseWrapper((String) additionalProperties.get(RESPONSE_WRAPPER));
         }
@@ -253,11 +280,24 @@ public class SpringCodegen extends AbstractJavaCodegen
         if (additionalProperties.containsKey(USE_BEANVALIDATION)) {
             this.setUseBeanValidation(convertPropertyToBoolean(USE_BEANVALIDATION));
         }
-        writePropertyBack(USE_BEANVALIDATION, useBeanValidation);
 
         if (additionalProperties.containsKey(PERFORM_BEANVALIDATION)) {
             this.setPerformBeanValidation(convertPropertyToBoolean(PERFORM_BEANVALIDATION));
         }
+
+        if (additionalProperties.containsKey(USE_GENERATED_VALIDATION)) {
+            this.setUseGeneratedValidation(convertPropertyToBoolean(USE_GENERATED_VALIDATION));
+            if (this.useGeneratedValidation && (this.reactive || SPRING_CLOUD_LIBRARY.equals(library))) {
+                throw new IllegalArgumentException("The useGeneratedValidation option is only supported by the Spring MVC servers");
+            }
+        }
+        writePropertyBack(USE_GENERATED_VALIDATION, useGeneratedValidation);
+        if (this.useGeneratedValidation) {
+            // the validators replace the annotations, and Hibernate Validator
+            this.setUseBeanValidation(false);
+            this.setPerformBeanValidation(false);
+        }
+        writePropertyBack(USE_BEANVALIDATION, useBeanValidation);
         writePropertyBack(PERFORM_BEANVALIDATION, performBeanValidation);
 
         if (additionalProperties.containsKey(USE_OPTIONAL)) {
@@ -302,6 +342,18 @@ public class SpringCodegen extends AbstractJavaCodegen
             }
         }
 
+        if (this.useGeneratedValidation && !this.delegatePattern) {
+            if (this.java8) {
+                // the annotated _operation methods validate the requests before calling the methods
+                // overridden by the implementations, which cannot skip the validation
+                additionalProperties.put("delegate-method", true);
+            } else if (this.interfaceOnly) {
+                throw new IllegalArgumentException(
+                        String.format(Locale.ROOT, "Can not generate code with `%s` and `%s` true while `%s` and `%s` are false.",
+                                USE_GENERATED_VALIDATION, INTERFACE_ONLY, JAVA_8, DELEGATE_PATTERN));
+            }
+        }
+
         supportingFiles.add(new SupportingFile("pom.mustache", "", "pom.xml"));
         supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
 
@@ -333,7 +385,11 @@ public class SpringCodegen extends AbstractJavaCodegen
                     this.setSingleContentTypes(true);
                 }
             } else {
-                apiTemplateFiles.put("apiController.mustache", "Controller.java");
+                if (this.routerFunctions) {
+                    apiTemplateFiles.put("apiRouter.mustache", "Router.java");
+                } else {
+                    apiTemplateFiles.put("apiController.mustache", "Controller.java");
+                }
                 supportingFiles.add(new SupportingFile("application.mustache",
                         ("src.main.resources").replace(".", java.io.File.separator), "application.properties"));
                 supportingFiles.add(new SupportingFile("homeController.mustache",
@@ -359,6 +415,11 @@ public class SpringCodegen extends AbstractJavaCodegen
         if (this.apiFirst) {
             apiTemplateFiles.clear();
             modelTemplateFiles.clear();
+        } else if (this.useGeneratedValidation) {
+            modelTemplateFiles.put("modelValidator.mustache", "Validator.java");
+            apiTemplateFiles.put("apiValidator.mustache", "Validator.java");
+            supportingFiles.add(new SupportingFile("validationException.mustache",
+                    (sourceFolder + File.separator + apiPackage).replace(".", java.io.File.separator), "ValidationException.java"));
         }
 
         if ("threetenbp".equals(dateLibrary)) {
@@ -558,12 +619,192 @@ public class SpringCodegen extends AbstractJavaCodegen
                 if(implicitHeaders){
                     removeHeadersFromAllParams(operation.allParams);
                 }
+
+                if (routerFunctions) {
+                    processRouterParameters(operation);
+                }
+            }
+
+            if (routerFunctions) {
+                // the functional endpoints are tried in the order they are registered
+                List<CodegenOperation> routes = new ArrayList<CodegenOperation>(ops);
+                Collections.sort(routes, new Comparator<CodegenOperation>() {
+                    @Override
+                    public int compare(CodegenOperation one, CodegenOperation another) {
+                        return URLPathUtils.comparePaths(one.path, another.path);
+                    }
+                });
+                operations.put("routes", routes);
+            }
+
+            if (useGeneratedValidation) {
+                setValidatorExtensions(ops, modelNames(allModels), objs);
+            }
+        }
+
+        return objs;
+    }
+
+    /**
+     * Prepare the parameters of an operation for the functional endpoints, which get the raw values
+     * of the request instead of the values bound by Spring MVC.
+     */
+    private void processRouterParameters(CodegenOperation operation) {
+        for (CodegenParameter param : operation.allParams) {
+            // the file parameters are MultipartFile, which the functional endpoints cannot provide
+            if (param.isFormParam && param.isFile) {
+                operation.vendorExtensions.put("x-router-multipart", true);
+            }
+            // the values of the parameters not repeated for each item are split by the endpoints
+            if (param.isContainer && (param.isQueryParam || param.isHeaderParam) && !"multi".equals(param.collectionFormat)) {
+                if ("pipe".equals(param.collectionFormat)) {
+                    param.vendorExtensions.put("x-router-separator", "\\\\|");
+                } else if ("space".equals(param.collectionFormat)) {
+                    param.vendorExtensions.put("x-router-separator", " ");
+                } else {
+                    param.vendorExtensions.put("x-router-separator", ",");
+                }
+            }
+        }
+    }
+
+    @Override
+    public CodegenParameter fromParameter(Parameter parameter, Set<String> imports) {
+        CodegenParameter codegenParameter = super.fromParameter(parameter, imports);
+        if (routerFunctions && parameter.getSchema() != null) {
+            // the functional endpoints convert the default value from its text, like the value of the request
+            Schema schema = ModelUtils.getReferencedSchema(globalOpenAPI, parameter.getSchema());
+            if (schema.getDefault() != null) {
+                codegenParameter.vendorExtensions.put("x-router-default", escapeText(String.valueOf(schema.getDefault())));
             }
         }
+        return codegenParameter;
+    }
+
+    @Override
+    public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+        objs = super.postProcessAllModels(objs);
+        if (!useGeneratedValidation) {
+            return objs;
+        }
 
+        List<CodegenModel> models = new ArrayList<CodegenModel>();
+        for (Object inner : objs.values()) {
+            for (Map<String, Object> mo : (List<Map<String, Object>>) ((Map<String, Object>) inner).get("models")) {
+                models.add((CodegenModel) mo.get("model"));
+            }
+        }
+        Set<String> modelNames = new HashSet<String>();
+        for (CodegenModel model : models) {
+            modelNames.add(model.classname);
+        }
+        for (CodegenModel model : models) {
+            for (CodegenProperty property : model.vars) {
+                CodegenProperty inner = property.isContainer ? property.items : property;
+                String type = property.datatypeWithEnum;
+                if (inner != null && inner.isEnum) {
+                    // the inner enums are declared in the model class
+                    type = type.replace(inner.datatypeWithEnum, model.classname + "." + inner.datatypeWithEnum);
+                }
+                setValidatorExtensions(property.vendorExtensions, property.name, type,
+                        inner == null || inner.isContainer ? null : inner.complexType, modelNames,
+                        property.required, property.isString && !property.isEnum, property.pattern,
+                        property.minLength, property.maxLength, property.minItems, property.maxItems,
+                        property.isContainer, property.minimum, property.exclusiveMinimum, property.maximum, property.exclusiveMaximum);
+            }
+        }
         return objs;
     }
 
+    private Set<String> modelNames(List<Object> allModels) {
+        Set<String> modelNames = new HashSet<String>();
+        for (Object mo : allModels) {
+            modelNames.add(((CodegenModel) ((Map<String, Object>) mo).get("model")).classname);
+        }
+        return modelNames;
+    }
+
+    /**
+     * Set the vendor extensions used by the validators of the parameters of the operations, and
+     * the imports of the validators of the models they refer to.
+     */
+    private void setValidatorExtensions(List<CodegenOperation> ops, Set<String> modelNames, Map<String, Object> objs) {
+        Set<String> validatorImports = new TreeSet<String>();
+        for (CodegenOperation operation : ops) {
+            for (CodegenParameter param : operation.allParams) {
+                String model = param.isContainer ? (param.items == null || param.items.isContainer ? null : param.items.complexType) : param.baseType;
+                setValidatorExtensions(param.vendorExtensions, operation.operationId + "_" + param.paramName,
+                        param.isFile ? "MultipartFile" : param.dataType, model, modelNames,
+                        param.required, param.isString && !param.isEnum, param.pattern,
+                        param.minLength, param.maxLength, param.minItems, param.maxItems,
+                        param.isContainer, param.minimum, param.exclusiveMinimum, param.maximum, param.exclusiveMaximum);
+                if (param.vendorExtensions.containsKey("x-validator-model")) {
+                    validatorImports.add(modelPackage + "." + param.vendorExtensions.get("x-validator-model") + "Validator");
+                }
+            }
+        }
+        objs.put("validatorImports", validatorImports);
+    }
+
+    /**
+     * Set the vendor extensions of a property or parameter used by the generated validators:
+     * whether it is validated and by which method, its type in the validator, the model validated
+     * with it, its pattern constant and the conditions of its length, size and range violations.
+     */
+    private void setValidatorExtensions(Map<String, Object> vendorExtensions, String name, String type, String model,
+                                        Set<String> modelNames, boolean required, boolean string, String pattern,
+                                        Integer minLength, Integer maxLength, Integer minItems, Integer maxItems,
+                                        boolean container, String minimum, boolean exclusiveMinimum,
+                                        String maximum, boolean exclusiveMaximum) {
+        boolean validated = required;
+        if (model != null && modelNames.contains(model)) {
+            vendorExtensions.put("x-validator-model", model);
+            validated = true;
+        }
+        if (string && pattern != null) {
+            vendorExtensions.put("x-validator-pattern", underscore(name).toUpperCase(Locale.ROOT) + "_PATTERN");
+            validated = true;
+        }
+        if (string && (minLength != null || maxLength != null)) {
+            vendorExtensions.put("x-validator-length", sizeCondition("value.length()", minLength, maxLength));
+            validated = true;
+        }
+        if (container && (minItems != null || maxItems != null)) {
+            vendorExtensions.put("x-validator-size", sizeCondition("value.size()", minItems, maxItems));
+            validated = true;
+        }
+        boolean numeric = NUMERIC_TYPES.contains(type);
+        if (numeric && minimum != null) {
+            vendorExtensions.put("x-validator-minimum", rangeCondition(type, minimum, exclusiveMinimum ? "<=" : "<"));
+            validated = true;
+        }
+        if (numeric && maximum != null) {
+            vendorExtensions.put("x-validator-maximum", rangeCondition(type, maximum, exclusiveMaximum ? ">=" : ">"));
+            validated = true;
+        }
+        vendorExtensions.put("x-validated", validated);
+        vendorExtensions.put("x-validator-method", "validate" + camelize(name));
+        vendorExtensions.put("x-validator-type", type);
+    }
+
+    private static String sizeCondition(String size, Integer min, Integer max) {
+        if (min == null) {
+            return size + " > " + max;
+        } else if (max == null) {
+            return size + " < " + min;
+        }
+        return size + " < " + min + " || " + size + " > " + max;
+    }
+
+    private static String rangeCondition(String type, String limit, String operator) {
+        if ("BigDecimal".equals(type)) {
+            return "value.compareTo(new BigDecimal(\"" + limit + "\")) " + operator + " 0";
+        } else if ("Long".equals(type)) {
+            return "value " + operator + " " + limit + "L";
+        }
+        return "value " + operator + " " + limit;
+    }
+
     private interface DataTypeAssigner {
         void setReturnType(String returnType);
         void setReturnContainer(String returnContainer);
@@ -706,6 +947,8 @@ public class SpringCodegen extends AbstractJavaCodegen
 
     public void setReactive(boolean reactive) { this.reactive = reactive; }
 
+    public void setRouterFunctions(boolean routerFunctions) { this.routerFunctions = routerFunctions; }
+
     public void setResponseWrapper(String responseWrapper) { this.responseWrapper = responseWrapper; }
 
     public void setUseTags(boolean useTags) {
@@ -785,6 +1028,10 @@ public class SpringCodegen extends AbstractJavaCodegen
         this.performBeanValidation = performBeanValidation;
     }
 
+    public void setUseGeneratedValidation(boolean useGeneratedValidation) {
+        this.useGeneratedValidation = useGeneratedValidation;
+    }
+
     @Override
     public void setUseOptional(boolean useOptional) {
         this.useOptional = useOptional;
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Renders JMustache templates, reading and compiling the template (and its partials) on every call.
+ */
+public class MustacheEngineAdapter implements TemplatingEngineAdapter {
+
+    public static final String IDENTIFIER = "mustache";
+
+    @Override
+    public String getIdentifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public boolean handlesFile(String templateFile) {
+        return templateFile.endsWith("mustache");
+    }
+
+    @Override
+    public void render(TemplatingGenerator generator, Map<String, Object> bundle, String templateFile, Writer out) throws IOException {
+        getTemplate(generator, templateFile).execute(bundle, out);
+    }
+
+    protected Template getTemplate(TemplatingGenerator generator, String templateFile) {
+        return compileTemplate(generator, templateFile);
+    }
+
+    protected Template compileTemplate(final TemplatingGenerator generator, String templateFile) {
+        String template = generator.readTemplate(templateFile);
+        return getCompiler(generator).compile(template);
+    }
+
+    protected Mustache.Compiler getCompiler(final TemplatingGenerator generator) {
+        Mustache.Compiler compiler = Mustache.compiler();
+        compiler = generator.getConfig().processCompiler(compiler);
+        return compiler
+                .withLoader(name -> generator.getTemplateReader(generator.getFullTemplatePath(name + ".mustache")))
+                .defaultValue("");
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Renders templates for a generator. Implementations are discovered through {@link java.util.ServiceLoader}
+ * and selected by {@link #getIdentifier()}, see {@link TemplatingEngineLoader}.
+ */
+public interface TemplatingEngineAdapter {
+
+    /**
+     * @return the identifier used to select this engine, e.g. "mustache"
+     */
+    String getIdentifier();
+
+    /**
+     * @param templateFile the full path of a template or supporting file
+     * @return true if the file is a template of this engine, false if it should be copied verbatim
+     */
+    boolean handlesFile(String templateFile);
+
+    /**
+     * Render a template with the given data.
+     *
+     * @param generator    resolves and reads templates (including partials)
+     * @param bundle       the data available to the template
+     * @param templateFile the full path of the template, as returned by {@link TemplatingGenerator#getFullTemplatePath(String)}
+     * @param out          receives the rendered output
+     * @throws IOException if the template cannot be read or the output cannot be written
+     */
+    void render(TemplatingGenerator generator, Map<String, Object> bundle, String templateFile, Writer out) throws IOException;
+}
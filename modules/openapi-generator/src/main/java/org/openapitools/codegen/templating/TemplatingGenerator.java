@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.CodegenConfig;
+
+import java.io.Reader;
+
+/**
+ * The view of a generator that a {@link TemplatingEngineAdapter} needs to locate and read templates.
+ */
+public interface TemplatingGenerator {
+
+    /**
+     * @return the generator configuration
+     */
+    CodegenConfig getConfig();
+
+    /**
+     * Resolve a template name against the user template directory, the library folder and the embedded templates.
+     *
+     * @param templateFile the template file name, e.g. "model.mustache"
+     * @return the full template path
+     */
+    String getFullTemplatePath(String templateFile);
+
+    /**
+     * @param fullTemplatePath the full template path
+     * @return the template contents
+     */
+    String readTemplate(String fullTemplatePath);
+
+    /**
+     * @param fullTemplatePath the full template path
+     * @return a reader over the template contents
+     */
+    Reader getTemplateReader(String fullTemplatePath);
+}
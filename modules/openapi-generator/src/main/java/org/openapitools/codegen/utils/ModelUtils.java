@@ -53,9 +53,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -97,16 +100,13 @@ public class ModelUtils {
      * @return schemas a list of used schemas
      */
     public static List<String> getAllUsedSchemas(OpenAPI openAPI) {
-        List<String> allUsedSchemas = new ArrayList<String>();
+        Set<String> allUsedSchemas = new LinkedHashSet<String>();
         visitOpenAPI(openAPI, (s, t) -> {
             if (s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if (!allUsedSchemas.contains(ref)) {
-                    allUsedSchemas.add(ref);
-                }
+                allUsedSchemas.add(getSimpleRef(s.get$ref()));
             }
         });
-        return allUsedSchemas;
+        return new ArrayList<String>(allUsedSchemas);
     }
 
     /**
@@ -116,16 +116,19 @@ public class ModelUtils {
      * @return schemas a list of unused schemas
      */
     public static List<String> getUnusedSchemas(OpenAPI openAPI) {
-        List<String> unusedSchemas = new ArrayList<String>();
-
-        Map<String, Schema> schemas = getSchemas(openAPI);
-        unusedSchemas.addAll(schemas.keySet());
-
+        Set<String> usedSchemas = new HashSet<String>();
         visitOpenAPI(openAPI, (s, t) -> {
             if (s.get$ref() != null) {
-                unusedSchemas.remove(getSimpleRef(s.get$ref()));
+                usedSchemas.add(getSimpleRef(s.get$ref()));
             }
         });
+
+        List<String> unusedSchemas = new ArrayList<String>();
+        for (String name : getSchemas(openAPI).keySet()) {
+            if (!usedSchemas.contains(name)) {
+                unusedSchemas.add(name);
+            }
+        }
         return unusedSchemas;
     }
 
@@ -136,8 +139,8 @@ public class ModelUtils {
      * @return schemas a list of schemas
      */
     public static List<String> getSchemasUsedOnlyInFormParam(OpenAPI openAPI) {
-        List<String> schemasUsedInFormParam = new ArrayList<String>();
-        List<String> schemasUsedInOtherCases = new ArrayList<String>();
+        Set<String> schemasUsedInFormParam = new LinkedHashSet<String>();
+        Set<String> schemasUsedInOtherCases = new HashSet<String>();
 
         visitOpenAPI(openAPI, (s, t) -> {
             if (s.get$ref() != null) {
@@ -164,7 +167,7 @@ public class ModelUtils {
      */
     private static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
         Map<String, PathItem> paths = openAPI.getPaths();
-        List<String> visitedSchemas = new ArrayList<>();
+        Set<String> visitedSchemas = new HashSet<>();
 
         if (paths != null) {
             for (PathItem path : paths.values()) {
@@ -173,7 +176,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         List<Operation> allOperations = pathItem.readOperations();
         if (allOperations != null) {
             for (Operation operation : allOperations) {
@@ -226,12 +229,11 @@ public class ModelUtils {
         }
     }
 
-    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, List<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
+    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, Set<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
         visitor.visit(schema, mimeType);
         if (schema.get$ref() != null) {
             String ref = getSimpleRef(schema.get$ref());
-            if (!visitedSchemas.contains(ref)) {
-                visitedSchemas.add(ref);
+            if (visitedSchemas.add(ref)) {
                 Schema referencedSchema = getSchemas(openAPI).get(ref);
                 if (referencedSchema != null) {
                     visitSchema(openAPI, referencedSchema, mimeType, visitedSchemas, visitor);
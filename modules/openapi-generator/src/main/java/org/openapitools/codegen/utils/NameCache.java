@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Memoizes a pure name transformation (e.g. toVarName) of a single codegen instance.
+ * <p>
+ * Caches are created with {@link org.openapitools.codegen.DefaultCodegen#nameCache(String)}, which clears them
+ * whenever the settings the transformations depend on (reserved words, reserved word mappings, model name
+ * prefix/suffix, ...) change.
+ */
+public class NameCache {
+    private final String name;
+    private final Runnable validator;
+    private final Map<String, String> values = new HashMap<>();
+    private long hits;
+    private long misses;
+
+    /**
+     * @param name      name of the cached transformation, used in statistics
+     * @param validator invoked before each lookup, may {@link #clear()} the cache
+     */
+    public NameCache(String name, Runnable validator) {
+        this.name = name;
+        this.validator = validator;
+    }
+
+    /**
+     * Return the cached result for the input, computing and caching it on first use.
+     * Null inputs are passed to the transformation without being cached.
+     *
+     * @param input     the name to transform
+     * @param transform the transformation
+     * @return the transformed name
+     */
+    public String get(String input, UnaryOperator<String> transform) {
+        if (input == null) {
+            return transform.apply(null);
+        }
+        validator.run();
+        String result = values.get(input);
+        if (result != null) {
+            hits++;
+            return result;
+        }
+        misses++;
+        // not computeIfAbsent: the transformation may re-enter this cache with another input
+        result = transform.apply(input);
+        if (result != null) {
+            values.put(input, result);
+        }
+        return result;
+    }
+
+    public void clear() {
+        values.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public String toString() {
+        long total = hits + misses;
+        double hitRate = total == 0 ? 0 : 100.0 * hits / total;
+        return String.format(Locale.ROOT, "%s: %d lookups, %d hits (%.1f%%), %d entries", name, total, hits, hitRate, values.size());
+    }
+}
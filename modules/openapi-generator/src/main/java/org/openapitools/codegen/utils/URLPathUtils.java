@@ -173,6 +173,32 @@ public class URLPathUtils {
         return LOCAL_HOST;
     }
 
+    /**
+     * Order the paths of operations so that a path comes before those having a parameter where it
+     * has a static segment, e.g. /user/login before /user/{username}, for the routers trying the
+     * routes in the order they are registered.
+     *
+     * @param one a path
+     * @param another another path
+     * @return a negative number, zero or a positive number as the first path comes before, along or after the other
+     */
+    public static int comparePaths(String one, String another) {
+        String[] oneSegments = one.split("/");
+        String[] anotherSegments = another.split("/");
+        for (int i = 0; i < Math.min(oneSegments.length, anotherSegments.length); i++) {
+            boolean oneParam = oneSegments[i].contains("{");
+            boolean anotherParam = anotherSegments[i].contains("{");
+            if (oneParam != anotherParam) {
+                return oneParam ? 1 : -1;
+            }
+            int result = oneSegments[i].compareTo(anotherSegments[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return oneSegments.length - anotherSegments.length;
+    }
+
     private static String sanitizeUrl(String url) {
         if (url.startsWith("//")) {
             url = "http:" + url;
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import org.openapitools.codegen.AbstractGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes rendered files to disk on a small pool of I/O threads, so that template rendering on the
+ * calling thread overlaps with disk I/O.
+ * <p>
+ * Content is rendered synchronously into a pooled in-memory buffer and handed to one of the I/O threads.
+ * Files are assigned to threads by path, so repeated writes to the same file are applied in submission order.
+ * The number of rendered-but-unwritten files is bounded; callers block once the queue is full.
+ * The first I/O failure is rethrown by the next call to {@link #write}, {@link #flush} or {@link #close}.
+ * Files which are scheduled but not yet written are reported by {@link #exists(File)}.
+ */
+public class WriteBehindFileWriter implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindFileWriter.class);
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    // buffers which grew beyond this size are dropped instead of being returned to the pool
+    private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+    // the number of scheduled but not yet written writes of each file, by absolute path, of all the writers
+    private static final ConcurrentMap<String, Integer> PENDING = new ConcurrentHashMap<>();
+
+    private final ExecutorService[] executors;
+    private final Semaphore capacity;
+    private final BlockingQueue<Buffer> bufferPool;
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    /**
+     * @param threads       number of I/O threads, must be at least 1
+     * @param queueCapacity maximum number of rendered files waiting to be written, must be at least 1
+     */
+    public WriteBehindFileWriter(int threads, int queueCapacity) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be at least 1");
+        }
+        this.executors = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            final String name = "openapi-generator-writer-" + i;
+            this.executors[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        this.capacity = new Semaphore(queueCapacity);
+        this.bufferPool = new ArrayBlockingQueue<>(queueCapacity + 1);
+    }
+
+    /**
+     * Render the content on the calling thread and schedule the output file to be written.
+     * The parent directory of the file must already exist.
+     *
+     * @param output  the file to write
+     * @param content renders the file contents
+     * @throws IOException if rendering fails or a previously scheduled write has failed
+     */
+    public void write(final File output, AbstractGenerator.ContentWriter content) throws IOException {
+        checkFailure();
+
+        final Buffer buffer = acquireBuffer();
+        try {
+            Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+            content.writeTo(writer);
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            releaseBuffer(buffer);
+            throw e;
+        }
+
+        try {
+            capacity.acquire();
+        } catch (InterruptedException e) {
+            releaseBuffer(buffer);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to write " + output);
+        }
+
+        final String path = output.getAbsolutePath();
+        PENDING.merge(path, 1, Integer::sum);
+        executorFor(output).execute(() -> {
+            try {
+                if (failure.get() == null) {
+                    try (OutputStream out = new FileOutputStream(output)) {
+                        buffer.writeTo(out);
+                    }
+                }
+            } catch (IOException e) {
+                failure.compareAndSet(null, new IOException("Could not write file " + output, e));
+            } finally {
+                PENDING.computeIfPresent(path, (key, count) -> count > 1 ? count - 1 : null);
+                releaseBuffer(buffer);
+                capacity.release();
+            }
+        });
+    }
+
+    /**
+     * Block until every scheduled write has completed.
+     *
+     * @throws IOException if any scheduled write has failed
+     */
+    public void flush() throws IOException {
+        Future<?>[] barriers = new Future<?>[executors.length];
+        for (int i = 0; i < executors.length; i++) {
+            barriers[i] = executors[i].submit(() -> {
+            });
+        }
+        for (Future<?> barrier : barriers) {
+            try {
+                barrier.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while flushing pending writes");
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+        checkFailure();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            for (ExecutorService executor : executors) {
+                executor.shutdown();
+            }
+            bufferPool.clear();
+        }
+    }
+
+    /**
+     * Whether a file exists on disk or is scheduled to be written by a write-behind writer, to be used
+     * instead of {@link File#exists()} to check for generated files while writes may be pending.
+     *
+     * @param file the file
+     * @return true if the file exists or is about to
+     */
+    public static boolean exists(File file) {
+        return PENDING.containsKey(file.getAbsolutePath()) || file.exists();
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    private ExecutorService executorFor(File output) {
+        int hash = output.getAbsolutePath().hashCode();
+        return executors[(hash & Integer.MAX_VALUE) % executors.length];
+    }
+
+    private Buffer acquireBuffer() {
+        Buffer buffer = bufferPool.poll();
+        return buffer != null ? buffer : new Buffer();
+    }
+
+    private void releaseBuffer(Buffer buffer) {
+        if (buffer.capacity() > MAX_POOLED_BUFFER_SIZE) {
+            LOGGER.debug("Dropping oversized write buffer of {} bytes", buffer.capacity());
+            return;
+        }
+        buffer.reset();
+        bufferPool.offer(buffer);
+    }
+
+    private static class Buffer extends ByteArrayOutputStream {
+        Buffer() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reports operations sharing the operationId of an earlier operation.
+ */
+public class DuplicateOperationIdRule implements ValidationRule {
+    public static final String ID = "duplicate-operation-id";
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Operations with the same operationId";
+    }
+
+    @Override
+    public List<ValidationIssue> validate(SpecIndex index) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        Map<String, String> firstUse = new HashMap<>();
+        for (SpecIndex.Node node : index.getNodes().values()) {
+            for (SpecIndex.Operation operation : node.getOperations()) {
+                if (operation.getOperationId() == null) {
+                    continue;
+                }
+                String description = operation.getMethod().toUpperCase(Locale.ROOT) + " " + node.getName();
+                String previous = firstUse.putIfAbsent(operation.getOperationId(), description);
+                if (previous != null) {
+                    issues.add(new ValidationIssue(ID, ValidationIssue.Severity.WARNING, node.getLocation() + "/" + operation.getMethod(),
+                            "Duplicate operationId '" + operation.getOperationId() + "' of " + description + " (also used by " + previous + ")"));
+                }
+            }
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the references, operations and inline object schemas of a single element of a specification.
+ * References are recorded but not followed.
+ */
+class ElementScanner {
+    private final Set<String> refs = new LinkedHashSet<>();
+    private final List<SpecIndex.Operation> operations = new ArrayList<>();
+    private final Set<Schema> visitedSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int inlineSchemas;
+
+    /**
+     * Scan a path item or component.
+     *
+     * @param location    JSON pointer of the element
+     * @param element     the path item or component
+     * @param fingerprint digest of the element, or null
+     * @return the node of the element
+     */
+    static SpecIndex.Node scan(String location, Object element, String fingerprint) {
+        ElementScanner scanner = new ElementScanner();
+        if (element instanceof PathItem) {
+            scanner.pathItem((PathItem) element, true);
+        } else if (element instanceof Schema) {
+            scanner.schema((Schema) element, true);
+        } else if (element instanceof ApiResponse) {
+            scanner.response((ApiResponse) element);
+        } else if (element instanceof Parameter) {
+            scanner.parameter((Parameter) element);
+        } else if (element instanceof Example) {
+            scanner.ref(((Example) element).get$ref());
+        } else if (element instanceof RequestBody) {
+            scanner.requestBody((RequestBody) element);
+        } else if (element instanceof Header) {
+            scanner.header((Header) element);
+        } else if (element instanceof SecurityScheme) {
+            scanner.ref(((SecurityScheme) element).get$ref());
+        } else if (element instanceof Link) {
+            scanner.link((Link) element);
+        } else if (element instanceof Callback) {
+            scanner.callback((Callback) element);
+        }
+        return new SpecIndex.Node(location, fingerprint, new ArrayList<>(scanner.refs), scanner.operations, scanner.inlineSchemas);
+    }
+
+    private void ref(String ref) {
+        if (ref != null) {
+            refs.add(ref);
+        }
+    }
+
+    private void pathItem(PathItem pathItem, boolean recordOperations) {
+        ref(pathItem.get$ref());
+        parameters(pathItem.getParameters());
+        for (Map.Entry<PathItem.HttpMethod, io.swagger.v3.oas.models.Operation> entry : pathItem.readOperationsMap().entrySet()) {
+            io.swagger.v3.oas.models.Operation operation = entry.getValue();
+            if (recordOperations) {
+                operations.add(new SpecIndex.Operation(entry.getKey().name().toLowerCase(Locale.ROOT), operation.getOperationId()));
+            }
+            parameters(operation.getParameters());
+            if (operation.getRequestBody() != null) {
+                requestBody(operation.getRequestBody());
+            }
+            if (operation.getResponses() != null) {
+                for (ApiResponse response : operation.getResponses().values()) {
+                    response(response);
+                }
+            }
+            if (operation.getCallbacks() != null) {
+                for (Callback callback : operation.getCallbacks().values()) {
+                    callback(callback);
+                }
+            }
+        }
+    }
+
+    private void callback(Callback callback) {
+        ref(callback.get$ref());
+        for (PathItem pathItem : callback.values()) {
+            pathItem(pathItem, false);
+        }
+    }
+
+    private void parameters(Collection<Parameter> parameters) {
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                parameter(parameter);
+            }
+        }
+    }
+
+    private void parameter(Parameter parameter) {
+        ref(parameter.get$ref());
+        schema(parameter.getSchema(), false);
+        examples(parameter.getExamples());
+        content(parameter.getContent());
+    }
+
+    private void requestBody(RequestBody requestBody) {
+        ref(requestBody.get$ref());
+        content(requestBody.getContent());
+    }
+
+    private void response(ApiResponse response) {
+        ref(response.get$ref());
+        headers(response.getHeaders());
+        content(response.getContent());
+        if (response.getLinks() != null) {
+            for (Link link : response.getLinks().values()) {
+                link(link);
+            }
+        }
+    }
+
+    private void link(Link link) {
+        ref(link.get$ref());
+        headers(link.getHeaders());
+    }
+
+    private void headers(Map<String, Header> headers) {
+        if (headers != null) {
+            for (Header header : headers.values()) {
+                header(header);
+            }
+        }
+    }
+
+    private void header(Header header) {
+        ref(header.get$ref());
+        schema(header.getSchema(), false);
+        examples(header.getExamples());
+        content(header.getContent());
+    }
+
+    private void examples(Map<String, Example> examples) {
+        if (examples != null) {
+            for (Example example : examples.values()) {
+                ref(example.get$ref());
+            }
+        }
+    }
+
+    private void content(Content content) {
+        if (content == null) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            schema(mediaType.getSchema(), false);
+            examples(mediaType.getExamples());
+            if (mediaType.getEncoding() != null) {
+                for (Encoding encoding : mediaType.getEncoding().values()) {
+                    headers(encoding.getHeaders());
+                }
+            }
+        }
+    }
+
+    private void schema(Schema schema, boolean root) {
+        if (schema == null || !visitedSchemas.add(schema)) {
+            return;
+        }
+        if (schema.get$ref() != null) {
+            ref(schema.get$ref());
+            return;
+        }
+        Map<String, Schema> properties = schema.getProperties();
+        if (properties != null) {
+            if (!root && !properties.isEmpty()) {
+                // generated as a separate model by the InlineModelResolver
+                inlineSchemas++;
+            }
+            for (Schema property : properties.values()) {
+                schema(property, false);
+            }
+        }
+        if (schema instanceof ArraySchema) {
+            schema(((ArraySchema) schema).getItems(), false);
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            schema((Schema) schema.getAdditionalProperties(), false);
+        }
+        schema(schema.getNot(), false);
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composed = (ComposedSchema) schema;
+            schemas(composed.getAllOf());
+            schemas(composed.getAnyOf());
+            schemas(composed.getOneOf());
+        }
+    }
+
+    private void schemas(List<Schema> schemas) {
+        if (schemas != null) {
+            for (Schema schema : schemas) {
+                schema(schema, false);
+            }
+        }
+    }
+}
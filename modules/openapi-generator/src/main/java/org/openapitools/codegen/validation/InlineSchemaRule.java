@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports paths and components defining many inline object schemas. Each of them is generated as a separate
+ * model with a synthetic name (e.g. <code>InlineObject12</code>).
+ */
+public class InlineSchemaRule implements ValidationRule {
+    public static final String ID = "inline-schema";
+    public static final int DEFAULT_THRESHOLD = 10;
+
+    private final int threshold;
+
+    public InlineSchemaRule() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param threshold maximum number of inline object schemas allowed in a single path or component
+     */
+    public InlineSchemaRule(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Paths and components with more than " + threshold + " inline object schemas";
+    }
+
+    @Override
+    public List<ValidationIssue> validate(SpecIndex index) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        for (SpecIndex.Node node : index.getNodes().values()) {
+            if (node.getInlineSchemas() > threshold) {
+                issues.add(new ValidationIssue(ID, ValidationIssue.Severity.WARNING, node.getLocation(),
+                        node.getName() + " defines " + node.getInlineSchemas() + " inline object schemas, " +
+                                "consider moving them to #/components/schemas"));
+            }
+        }
+        return issues;
+    }
+}
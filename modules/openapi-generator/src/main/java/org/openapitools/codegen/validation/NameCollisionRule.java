@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.DefaultCodegen;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.openapitools.codegen.utils.StringUtils.camelize;
+
+/**
+ * Reports distinct schema names and operationIds which are mapped to the same identifier by a generator, once
+ * sanitized. Names differing only in case are reported too, as they collide on case-insensitive file systems.
+ */
+public class NameCollisionRule implements ValidationRule {
+    public static final String ID = "name-collision";
+
+    private final CodegenConfig config;
+
+    /**
+     * Check collisions using the naming of {@link DefaultCodegen}.
+     */
+    public NameCollisionRule() {
+        this(new DefaultCodegen());
+    }
+
+    /**
+     * @param config the generator whose naming is checked. The rule calls it from a single thread, but the
+     *               instance must not be used by other threads while validating.
+     */
+    public NameCollisionRule(CodegenConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Schema names and operationIds which collide once sanitized";
+    }
+
+    @Override
+    public List<ValidationIssue> validate(SpecIndex index) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        Map<String, String> models = new HashMap<>();
+        Map<String, String> operations = new HashMap<>();
+        for (SpecIndex.Node node : index.getNodes().values()) {
+            if (node.isSchema()) {
+                String modelName = config.toModelName(config.sanitizeName(node.getName()));
+                String previous = models.putIfAbsent(modelName.toLowerCase(Locale.ROOT), node.getName());
+                if (previous != null) {
+                    issues.add(new ValidationIssue(ID, ValidationIssue.Severity.WARNING, node.getLocation(),
+                            "Model name '" + node.getName() + "' collides with '" + previous + "' (generated as " + modelName + ")"));
+                }
+            }
+            for (SpecIndex.Operation operation : node.getOperations()) {
+                String operationId = operation.getOperationId();
+                if (operationId == null) {
+                    continue;
+                }
+                String methodName = camelize(config.sanitizeName(operationId), true);
+                String previous = operations.putIfAbsent(methodName.toLowerCase(Locale.ROOT), operationId);
+                if (previous != null && !previous.equals(operationId)) {
+                    issues.add(new ValidationIssue(ID, ValidationIssue.Severity.WARNING, node.getLocation() + "/" + operation.getMethod(),
+                            "OperationId '" + operationId + "' collides with '" + previous + "' (generated as " + methodName + ")"));
+                }
+            }
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reference graph of a specification, shared by all {@link ValidationRule}s.
+ * <p>
+ * The graph has one node per path item (<code>#/paths/...</code>) and per component
+ * (<code>#/components/{type}/{name}</code>). Each node records the references, operations and inline object
+ * schemas found inside the element, without following references. Nodes optionally carry a fingerprint of the
+ * element, which allows an index to be saved and used to re-scan only the elements that changed.
+ */
+public final class SpecIndex {
+    static final int FORMAT_VERSION = 1;
+
+    private final Map<String, Node> nodes;
+    private final Set<String> reachable;
+
+    public SpecIndex(Collection<Node> nodes) {
+        Map<String, Node> byLocation = new LinkedHashMap<>();
+        for (Node node : nodes) {
+            byLocation.put(node.getLocation(), node);
+        }
+        this.nodes = Collections.unmodifiableMap(byLocation);
+        this.reachable = Collections.unmodifiableSet(computeReachable());
+    }
+
+    /**
+     * @return all nodes by location, in specification order
+     */
+    public Map<String, Node> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @param location location of a node, or any reference inside it
+     * @return the node, or null if the specification has no such element
+     */
+    public Node getNode(String location) {
+        String nodeLocation = toNodeLocation(location);
+        return nodeLocation == null ? null : nodes.get(nodeLocation);
+    }
+
+    /**
+     * @return locations of the nodes which can be reached from a path item, following references
+     */
+    public Set<String> getReachable() {
+        return reachable;
+    }
+
+    private Set<String> computeReachable() {
+        Set<String> visited = new HashSet<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        for (Node node : nodes.values()) {
+            if (node.isPath() && visited.add(node.getLocation())) {
+                pending.add(node);
+            }
+        }
+        while (!pending.isEmpty()) {
+            for (String ref : pending.poll().getRefs()) {
+                Node target = getNode(ref);
+                if (target != null && visited.add(target.getLocation())) {
+                    pending.add(target);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Map a local reference to the location of the node containing its target.
+     *
+     * @param ref a reference such as <code>#/components/schemas/Pet/properties/id</code>
+     * @return the node location, e.g. <code>#/components/schemas/Pet</code>, or null for external references
+     */
+    static String toNodeLocation(String ref) {
+        if (ref == null || !ref.startsWith("#/")) {
+            return null;
+        }
+        // #/paths/{path} or #/components/{type}/{name}
+        int segments = ref.startsWith("#/paths/") ? 3 : ref.startsWith("#/components/") ? 4 : -1;
+        if (segments < 0) {
+            return null;
+        }
+        int end = -1;
+        for (int i = 0; i < segments; i++) {
+            end = ref.indexOf('/', end + 1);
+            if (end < 0) {
+                return i == segments - 1 ? ref : null;
+            }
+        }
+        return ref.substring(0, end);
+    }
+
+    static String escape(String segment) {
+        return segment.replace("~", "~0").replace("/", "~1");
+    }
+
+    static String unescape(String segment) {
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * Save the index, including fingerprints, for a later incremental run.
+     *
+     * @param writer destination
+     * @throws IOException if the index cannot be written
+     */
+    public void write(Writer writer) throws IOException {
+        ObjectNode root = JsonNodeFactory.instance.objectNode();
+        root.put("version", FORMAT_VERSION);
+        ArrayNode elements = root.putArray("elements");
+        for (Node node : nodes.values()) {
+            ObjectNode element = elements.addObject();
+            element.put("location", node.getLocation());
+            element.put("fingerprint", node.getFingerprint());
+            ArrayNode refs = element.putArray("refs");
+            node.getRefs().forEach(refs::add);
+            if (!node.getOperations().isEmpty()) {
+                ArrayNode operations = element.putArray("operations");
+                for (Operation operation : node.getOperations()) {
+                    operations.addObject()
+                            .put("method", operation.getMethod())
+                            .put("operationId", operation.getOperationId());
+                }
+            }
+            element.put("inlineSchemas", node.getInlineSchemas());
+        }
+        Json.mapper().writeValue(writer, root);
+    }
+
+    /**
+     * Load an index saved by {@link #write(Writer)}.
+     *
+     * @param reader source
+     * @return the index, or null if it was written by an incompatible version
+     * @throws IOException if the index cannot be read
+     */
+    public static SpecIndex read(Reader reader) throws IOException {
+        JsonNode root = Json.mapper().readTree(reader);
+        if (root == null || root.path("version").asInt() != FORMAT_VERSION) {
+            return null;
+        }
+        List<Node> nodes = new ArrayList<>();
+        for (JsonNode element : root.path("elements")) {
+            List<String> refs = new ArrayList<>();
+            element.path("refs").forEach(ref -> refs.add(ref.asText()));
+            List<Operation> operations = new ArrayList<>();
+            for (JsonNode operation : element.path("operations")) {
+                operations.add(new Operation(operation.path("method").asText(), operation.path("operationId").asText(null)));
+            }
+            nodes.add(new Node(element.path("location").asText(), element.path("fingerprint").asText(null),
+                    refs, operations, element.path("inlineSchemas").asInt()));
+        }
+        return new SpecIndex(nodes);
+    }
+
+    /**
+     * A path item or component of the specification.
+     */
+    public static final class Node {
+        private final String location;
+        private final String type;
+        private final String name;
+        private final String fingerprint;
+        private final List<String> refs;
+        private final List<Operation> operations;
+        private final int inlineSchemas;
+
+        /**
+         * @param location      JSON pointer of the element
+         * @param fingerprint   digest of the element, or null
+         * @param refs          distinct references found in the element
+         * @param operations    operations of a path item
+         * @param inlineSchemas number of inline object schemas in the element
+         */
+        public Node(String location, String fingerprint, List<String> refs, List<Operation> operations, int inlineSchemas) {
+            String[] segments = location.split("/");
+            this.location = location;
+            this.type = segments.length > 2 && "components".equals(segments[1]) ? segments[2] : segments[1];
+            this.name = unescape(segments[segments.length - 1]);
+            this.fingerprint = fingerprint;
+            this.refs = Collections.unmodifiableList(new ArrayList<>(refs));
+            this.operations = Collections.unmodifiableList(new ArrayList<>(operations));
+            this.inlineSchemas = inlineSchemas;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        /**
+         * @return <code>paths</code> for path items, the component type (e.g. <code>schemas</code>) otherwise
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * @return the path of a path item, or the name of a component
+         */
+        public String getName() {
+            return name;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public List<String> getRefs() {
+            return refs;
+        }
+
+        public List<Operation> getOperations() {
+            return operations;
+        }
+
+        public int getInlineSchemas() {
+            return inlineSchemas;
+        }
+
+        public boolean isPath() {
+            return "paths".equals(type);
+        }
+
+        public boolean isSchema() {
+            return "schemas".equals(type);
+        }
+    }
+
+    /**
+     * An operation of a path item.
+     */
+    public static final class Operation {
+        private final String method;
+        private final String operationId;
+
+        public Operation(String method, String operationId) {
+            this.method = method;
+            this.operationId = operationId;
+        }
+
+        /**
+         * @return the lower case HTTP method
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * @return the operationId, or null if the operation has none
+         */
+        public String getOperationId() {
+            return operationId;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link ValidationRule}s against a specification.
+ * <p>
+ * The specification is first indexed into a {@link SpecIndex}, scanning path items and components in parallel.
+ * All rules then run in parallel against the shared index. In incremental mode, every element is fingerprinted
+ * and only the elements whose fingerprint differs from the previous index are scanned again.
+ */
+public class SpecValidator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecValidator.class);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final List<ValidationRule> rules;
+    private final int threads;
+
+    /**
+     * Create a validator running the {@link #defaultRules()} on all available processors.
+     */
+    public SpecValidator() {
+        this(defaultRules(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param rules   the rules to run
+     * @param threads number of threads used to index the specification and run the rules, must be at least 1
+     */
+    public SpecValidator(List<ValidationRule> rules, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.threads = threads;
+    }
+
+    /**
+     * @return the built-in rules
+     */
+    public static List<ValidationRule> defaultRules() {
+        return Arrays.asList(
+                new UnusedSchemaRule(),
+                new DuplicateOperationIdRule(),
+                new UnresolvedReferenceRule(),
+                new InlineSchemaRule(),
+                new NameCollisionRule());
+    }
+
+    public List<ValidationRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Validate the whole specification.
+     *
+     * @param openAPI the specification
+     * @return the report
+     */
+    public ValidationReport validate(OpenAPI openAPI) {
+        return validate(openAPI, null, false);
+    }
+
+    /**
+     * Validate the specification, scanning only the elements which changed since the previous index.
+     * The index of the returned report can be saved and passed to the next run.
+     *
+     * @param openAPI  the specification
+     * @param previous index of a previous run, or null to scan every element
+     * @return the report
+     */
+    public ValidationReport validateIncrementally(OpenAPI openAPI, SpecIndex previous) {
+        return validate(openAPI, previous, true);
+    }
+
+    private ValidationReport validate(OpenAPI openAPI, SpecIndex previous, boolean fingerprint) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "openapi-generator-validator");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            long start = System.currentTimeMillis();
+            AtomicInteger scanned = new AtomicInteger();
+            SpecIndex index = index(openAPI, previous, fingerprint, scanned, executor);
+            LOGGER.debug("Indexed {} elements ({} scanned) in {} ms", index.getNodes().size(), scanned.get(), System.currentTimeMillis() - start);
+
+            List<Callable<List<ValidationIssue>>> tasks = new ArrayList<>();
+            for (ValidationRule rule : rules) {
+                tasks.add(() -> {
+                    long ruleStart = System.currentTimeMillis();
+                    List<ValidationIssue> issues = rule.validate(index);
+                    LOGGER.debug("Rule {} reported {} issues in {} ms", rule.getId(), issues.size(), System.currentTimeMillis() - ruleStart);
+                    return issues;
+                });
+            }
+            List<ValidationIssue> issues = new ArrayList<>();
+            for (List<ValidationIssue> result : invokeAll(executor, tasks)) {
+                issues.addAll(result);
+            }
+            Collections.sort(issues);
+            return new ValidationReport(issues, index, scanned.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SpecIndex index(OpenAPI openAPI, SpecIndex previous, boolean fingerprint, AtomicInteger scanned, ExecutorService executor) {
+        final List<Map.Entry<String, Object>> elements = new ArrayList<>(elements(openAPI).entrySet());
+        final SpecIndex.Node[] nodes = new SpecIndex.Node[elements.size()];
+        // a few chunks per thread balance the load without creating a task per element
+        final int chunkSize = Math.max(1, elements.size() / (threads * 4) + 1);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < elements.size(); from += chunkSize) {
+            final int chunkStart = from;
+            final int chunkEnd = Math.min(elements.size(), from + chunkSize);
+            tasks.add(() -> {
+                MessageDigest digest = fingerprint ? newDigest() : null;
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    String location = elements.get(i).getKey();
+                    Object element = elements.get(i).getValue();
+                    String elementFingerprint = digest != null ? fingerprint(digest, element) : null;
+                    SpecIndex.Node old = previous != null ? previous.getNodes().get(location) : null;
+                    if (old != null && elementFingerprint != null && elementFingerprint.equals(old.getFingerprint())) {
+                        nodes[i] = old;
+                    } else {
+                        nodes[i] = ElementScanner.scan(location, element, elementFingerprint);
+                        scanned.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        invokeAll(executor, tasks);
+        return new SpecIndex(Arrays.asList(nodes));
+    }
+
+    /**
+     * @return the path items and components of the specification by location, in specification order
+     */
+    static Map<String, Object> elements(OpenAPI openAPI) {
+        Map<String, Object> elements = new LinkedHashMap<>();
+        if (openAPI.getPaths() != null) {
+            openAPI.getPaths().forEach((path, item) -> elements.put("#/paths/" + SpecIndex.escape(path), item));
+        }
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            addComponents(elements, "schemas", components.getSchemas());
+            addComponents(elements, "responses", components.getResponses());
+            addComponents(elements, "parameters", components.getParameters());
+            addComponents(elements, "examples", components.getExamples());
+            addComponents(elements, "requestBodies", components.getRequestBodies());
+            addComponents(elements, "headers", components.getHeaders());
+            addComponents(elements, "securitySchemes", components.getSecuritySchemes());
+            addComponents(elements, "links", components.getLinks());
+            addComponents(elements, "callbacks", components.getCallbacks());
+        }
+        return elements;
+    }
+
+    private static void addComponents(Map<String, Object> elements, String type, Map<String, ?> components) {
+        if (components != null) {
+            components.forEach((name, component) -> elements.put("#/components/" + type + "/" + SpecIndex.escape(name), component));
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String fingerprint(MessageDigest digest, Object element) throws Exception {
+        byte[] hash = digest.digest(Json.mapper().writeValueAsBytes(element));
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    private static <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks) {
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while validating the specification", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Could not validate the specification", e.getCause());
+        }
+    }
+}
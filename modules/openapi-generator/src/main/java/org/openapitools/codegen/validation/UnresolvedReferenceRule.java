@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports local references whose target does not exist. External references are not checked.
+ */
+public class UnresolvedReferenceRule implements ValidationRule {
+    public static final String ID = "unresolved-reference";
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Local references to paths or components which do not exist";
+    }
+
+    @Override
+    public List<ValidationIssue> validate(SpecIndex index) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        for (SpecIndex.Node node : index.getNodes().values()) {
+            for (String ref : node.getRefs()) {
+                if (ref.startsWith("#") && index.getNode(ref) == null) {
+                    issues.add(new ValidationIssue(ID, ValidationIssue.Severity.ERROR, node.getLocation(),
+                            "Unresolved reference: " + ref));
+                }
+            }
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports schemas of <code>#/components/schemas</code> which cannot be reached from any path.
+ */
+public class UnusedSchemaRule implements ValidationRule {
+    public static final String ID = "unused-schema";
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Schemas which are not referenced, directly or indirectly, by any path";
+    }
+
+    @Override
+    public List<ValidationIssue> validate(SpecIndex index) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        for (SpecIndex.Node node : index.getNodes().values()) {
+            if (node.isSchema() && !index.getReachable().contains(node.getLocation())) {
+                issues.add(new ValidationIssue(ID, ValidationIssue.Severity.WARNING, node.getLocation(),
+                        "Unused model: " + node.getName()));
+            }
+        }
+        return issues;
+    }
+}
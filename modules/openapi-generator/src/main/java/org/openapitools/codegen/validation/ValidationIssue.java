@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A single finding of a {@link ValidationRule}.
+ */
+public final class ValidationIssue implements Comparable<ValidationIssue> {
+    public enum Severity {
+        ERROR, WARNING
+    }
+
+    private static final Comparator<ValidationIssue> ORDER = Comparator
+            .comparing(ValidationIssue::getLocation)
+            .thenComparing(ValidationIssue::getRuleId)
+            .thenComparing(ValidationIssue::getMessage);
+
+    private final String ruleId;
+    private final Severity severity;
+    private final String location;
+    private final String message;
+
+    /**
+     * @param ruleId   identifier of the rule reporting the issue
+     * @param severity severity of the issue
+     * @param location JSON pointer of the offending element, e.g. <code>#/components/schemas/Pet</code>
+     * @param message  human readable description
+     */
+    public ValidationIssue(String ruleId, Severity severity, String location, String message) {
+        this.ruleId = Objects.requireNonNull(ruleId);
+        this.severity = Objects.requireNonNull(severity);
+        this.location = Objects.requireNonNull(location);
+        this.message = Objects.requireNonNull(message);
+    }
+
+    public String getRuleId() {
+        return ruleId;
+    }
+
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public int compareTo(ValidationIssue o) {
+        return ORDER.compare(this, o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ValidationIssue that = (ValidationIssue) o;
+        return ruleId.equals(that.ruleId) &&
+                severity == that.severity &&
+                location.equals(that.location) &&
+                message.equals(that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ruleId, severity, location, message);
+    }
+
+    @Override
+    public String toString() {
+        return message + " (" + ruleId + ", " + location + ")";
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Result of a {@link SpecValidator} run.
+ */
+public class ValidationReport {
+    private final List<ValidationIssue> issues;
+    private final SpecIndex index;
+    private final int scannedElements;
+
+    ValidationReport(List<ValidationIssue> issues, SpecIndex index, int scannedElements) {
+        this.issues = Collections.unmodifiableList(issues);
+        this.index = index;
+        this.scannedElements = scannedElements;
+    }
+
+    /**
+     * @return all issues, ordered by location
+     */
+    public List<ValidationIssue> getIssues() {
+        return issues;
+    }
+
+    public List<ValidationIssue> getIssues(ValidationIssue.Severity severity) {
+        return issues.stream().filter(i -> i.getSeverity() == severity).collect(Collectors.toList());
+    }
+
+    /**
+     * @return the index of the specification, which can be saved for an incremental run
+     */
+    public SpecIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the number of path items and components in the specification
+     */
+    public int getElementCount() {
+        return index.getNodes().size();
+    }
+
+    /**
+     * @return the number of path items and components scanned by this run, the others were unchanged
+     */
+    public int getScannedElementCount() {
+        return scannedElements;
+    }
+
+    /**
+     * @return the report as JSON, with one entry per issue
+     */
+    public ObjectNode toJson() {
+        ObjectNode root = JsonNodeFactory.instance.objectNode();
+        root.put("elements", getElementCount());
+        root.put("scannedElements", scannedElements);
+        ArrayNode array = root.putArray("issues");
+        for (ValidationIssue issue : issues) {
+            array.addObject()
+                    .put("rule", issue.getRuleId())
+                    .put("severity", issue.getSeverity().name().toLowerCase(Locale.ROOT))
+                    .put("location", issue.getLocation())
+                    .put("message", issue.getMessage());
+        }
+        return root;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import java.util.List;
+
+/**
+ * A check run by the {@link SpecValidator}.
+ * <p>
+ * Rules only read the shared {@link SpecIndex} and are run concurrently, so implementations must not
+ * modify shared state.
+ */
+public interface ValidationRule {
+
+    /**
+     * @return the identifier of the rule, used in reports
+     */
+    String getId();
+
+    /**
+     * @return a short description of what the rule checks
+     */
+    String getDescription();
+
+    /**
+     * Check the specification.
+     *
+     * @param index the reference graph of the specification
+     * @return the issues found, may be empty
+     */
+    List<ValidationIssue> validate(SpecIndex index);
+}
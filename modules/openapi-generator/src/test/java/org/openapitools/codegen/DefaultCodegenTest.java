@@ -566,6 +566,71 @@ public class DefaultCodegenTest {
         return var;
     }
 
+    @Test
+    public void testMemoizedNamesFollowSettings() {
+        final DefaultCodegen codegen = new DefaultCodegen();
+
+        Assert.assertEquals(codegen.toModelName("pet"), "Pet");
+        Assert.assertEquals(codegen.toModelName("pet"), "Pet");
+        codegen.setModelNamePrefix("My");
+        Assert.assertEquals(codegen.toModelName("pet"), "Mypet");
+        codegen.setModelNameSuffix("Dto");
+        Assert.assertEquals(codegen.toModelName("pet"), "MypetDto");
+
+        Assert.assertEquals(codegen.sanitizeName("some-name[]"), "some_name");
+        Assert.assertEquals(codegen.sanitizeName("some-name[]", "\\W-[\\$]"), "some_name");
+        Assert.assertEquals(codegen.sanitizeName("$name"), "name");
+        Assert.assertEquals(codegen.sanitizeName("$name", "\\W-[\\$]"), "$name");
+
+        Assert.assertEquals(codegen.toVarName("name"), "name");
+        codegen.reservedWords().add("name");
+        try {
+            codegen.toVarName("name");
+            Assert.fail("Expected the reserved word to be rejected");
+        } catch (RuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "reserved word name not allowed");
+        }
+
+        codegen.setAllowUnicodeIdentifiers(true);
+        Assert.assertEquals(codegen.toModelName("pet"), "MypetDto");
+    }
+
+    @Test
+    public void testMemoizedNamesFollowFields() {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.reservedWords.add("name");
+        Assert.assertEquals(codegen.toVarName("other"), "other");
+
+        // same number of reserved words, changed through the field
+        codegen.reservedWords.remove("name");
+        codegen.reservedWords.add("other");
+        try {
+            codegen.toVarName("other");
+            Assert.fail("Expected the reserved word to be rejected");
+        } catch (RuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "reserved word other not allowed");
+        }
+
+        codegen.reservedWords.remove("other");
+        Assert.assertEquals(codegen.toVarName("other"), "other");
+
+        Assert.assertEquals(codegen.toModelName("pet"), "Pet");
+        codegen.modelNamePrefix = "Api";
+        Assert.assertEquals(codegen.toModelName("pet"), "Apipet");
+    }
+
+    @Test
+    public void testNameCacheStatistics() {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.toApiName("store");
+        codegen.toApiName("store");
+        codegen.toApiName("pet");
+
+        String statistics = codegen.getNameCacheStatistics();
+        Assert.assertTrue(statistics.contains("toApiName: 3 lookups, 1 hits (33.3%), 2 entries"), statistics);
+        Assert.assertFalse(statistics.contains("toVarName"), statistics);
+    }
+
     private Map<String, Object> codegenModelWithXEnumVarName() {
         final CodegenModel cm = new CodegenModel();
         cm.isEnum = true;
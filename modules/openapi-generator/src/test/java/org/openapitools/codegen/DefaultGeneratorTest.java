@@ -10,9 +10,13 @@ import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 
+import org.openapitools.codegen.config.CodegenConfigurator;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.Map;
 
@@ -47,4 +51,38 @@ public class DefaultGeneratorTest {
         Assert.assertEquals(defaultList.get(3).path, "/path4");
         Assert.assertEquals(defaultList.get(3).allParams.size(), 1);
     }
+
+    @Test
+    public void testWriteBehindProducesSameOutput() throws Exception {
+        File syncOutput = Files.createTempDirectory("sync").toFile();
+        File asyncOutput = Files.createTempDirectory("async").toFile();
+
+        List<File> syncFiles = generatePetstore(syncOutput, null);
+        List<File> asyncFiles = generatePetstore(asyncOutput, "2");
+
+        Assert.assertEquals(asyncFiles.size(), syncFiles.size());
+        for (int i = 0; i < syncFiles.size(); i++) {
+            File expected = syncFiles.get(i);
+            File actual = asyncFiles.get(i);
+            Assert.assertEquals(asyncOutput.toPath().relativize(actual.toPath()), syncOutput.toPath().relativize(expected.toPath()));
+            // the README contains the build date
+            if (!expected.getName().equals("README.md")) {
+                Assert.assertEquals(Files.readAllBytes(actual.toPath()), Files.readAllBytes(expected.toPath()), actual.getPath());
+            }
+        }
+    }
+
+    private List<File> generatePetstore(File output, String writeBehindThreads) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true)
+                .setOutputDir(output.getAbsolutePath());
+
+        DefaultGenerator generator = new DefaultGenerator();
+        if (writeBehindThreads != null) {
+            generator.setGeneratorPropertyDefault(CodegenConstants.WRITE_BEHIND_THREADS, writeBehindThreads);
+        }
+        return generator.opts(configurator.toClientOptInput()).generate();
+    }
 }
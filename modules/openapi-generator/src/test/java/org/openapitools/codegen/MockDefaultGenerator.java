@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -43,8 +44,10 @@ public class MockDefaultGenerator extends DefaultGenerator {
     }
 
     @Override
-    public File writeToFile(String filename, String contents) throws IOException {
-        files.put(normalizePath(filename), contents);
+    public File writeToFile(String filename, ContentWriter content) throws IOException {
+        StringWriter contents = new StringWriter();
+        content.writeTo(contents);
+        files.put(normalizePath(filename), contents.toString());
         return new File(filename);
     }
 
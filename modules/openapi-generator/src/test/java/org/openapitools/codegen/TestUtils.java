@@ -6,11 +6,14 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.servers.Server;
 
 import org.openapitools.codegen.MockDefaultGenerator.WrittenTemplateBasedFile;
+import org.openapitools.codegen.config.CodegenConfigurator;
 import org.testng.Assert;
 
 import java.io.File;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class TestUtils {
 
@@ -36,4 +39,42 @@ public class TestUtils {
         Assert.assertTrue(optional.isPresent());
         return optional.get();
     }
+
+    /**
+     * Runs a generator without writing the files, which are then available from {@link MockDefaultGenerator#getFiles()}.
+     */
+    public static MockDefaultGenerator generate(String generatorName, String inputSpec, Map<String, Object> additionalProperties, File output) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName(generatorName)
+                .setAdditionalProperties(additionalProperties)
+                .setInputSpec(inputSpec)
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        return generator;
+    }
+
+    public static void ensureContainsFile(Map<String, String> generatedFiles, File root, String filename) {
+        File file = new File(root, filename);
+        String absoluteFilename = file.getAbsolutePath().replace("\\", "/");
+        if(!generatedFiles.containsKey(absoluteFilename)) {
+            Assert.fail("Could not find '" + absoluteFilename + "' file in list:\n" +
+                    generatedFiles.keySet().stream().sorted().collect(Collectors.joining(",\n")));
+        }
+        Assert.assertTrue(generatedFiles.containsKey(absoluteFilename), "File '" + absoluteFilename + "' was not fould in the list of generated files");
+    }
+
+    public static void ensureDoesNotContainFile(Map<String, String> generatedFiles, File root, String filename) {
+        String absoluteFilename = new File(root, filename).getAbsolutePath().replace("\\", "/");
+        Assert.assertFalse(generatedFiles.containsKey(absoluteFilename), "File '" + absoluteFilename + "' was found in the list of generated files");
+    }
+
+    /**
+     * Returns the content of a generated file, failing when it was not generated.
+     */
+    public static String getGeneratedFile(Map<String, String> generatedFiles, File root, String filename) {
+        ensureContainsFile(generatedFiles, root, filename);
+        return generatedFiles.get(new File(root, filename).getAbsolutePath().replace("\\", "/"));
+    }
 }
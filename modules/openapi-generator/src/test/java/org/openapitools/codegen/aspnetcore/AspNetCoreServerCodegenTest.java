@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.aspnetcore;
+
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.languages.AspNetCoreServerCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class AspNetCoreServerCodegenTest {
+
+    private static final String SOURCES = "src/Org.OpenAPITools/";
+
+    private static Map<String, String> generate(File output, Map<String, Object> properties) {
+        return TestUtils.generate("aspnetcore", "src/test/resources/3_0/aspnetcore-cache.yaml", properties, output).getFiles();
+    }
+
+    private static int count(String content, String fragment) {
+        int count = 0;
+        for (int i = content.indexOf(fragment); i >= 0; i = content.indexOf(fragment, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    public void testResponseCache() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, String> files = generate(output, new HashMap<String, Object>());
+        String controller = TestUtils.getGeneratedFile(files, output, SOURCES + "Controllers/ItemApi.cs");
+
+        // x-cache-seconds and x-cache-location
+        Assert.assertTrue(controller.contains("        [ResponseCache(Duration = 60, Location = ResponseCacheLocation.Client)]\n"
+                + "        [SwaggerOperation(\"ListItems\")]\n"));
+        // a duration of 0 disables the caching
+        Assert.assertTrue(controller.contains("        [ResponseCache(NoStore = true, Location = ResponseCacheLocation.None)]\n"
+                + "        [SwaggerOperation(\"GetItem\")]\n"));
+        // an invalid location is ignored
+        Assert.assertTrue(controller.contains("        [ResponseCache(Duration = 30)]\n"
+                + "        [SwaggerOperation(\"GetItemPrice\")]\n"));
+        // an invalid duration is ignored
+        Assert.assertTrue(controller.contains("        [ValidateModelState]\n"
+                + "        [SwaggerOperation(\"GetItemTags\")]\n"));
+        Assert.assertEquals(count(controller, "[ResponseCache("), 3);
+
+        String startup = TestUtils.getGeneratedFile(files, output, SOURCES + "Startup.cs");
+        Assert.assertFalse(startup.contains("AddResponseCaching"));
+        Assert.assertFalse(startup.contains("AddResponseCompression"));
+    }
+
+    @Test
+    public void testResponseCaching() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(AspNetCoreServerCodegen.USE_RESPONSE_CACHING, true);
+        Map<String, String> files = generate(output, properties);
+
+        // the responses cached by the middleware vary by the query parameters
+        String controller = TestUtils.getGeneratedFile(files, output, SOURCES + "Controllers/ItemApi.cs");
+        Assert.assertTrue(controller.contains("        [ResponseCache(Duration = 60, Location = ResponseCacheLocation.Client, VaryByQueryKeys = new[] { \"category\" })]\n"));
+        Assert.assertTrue(controller.contains("        [ResponseCache(Duration = 30)]\n"));
+
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, SOURCES + "Startup.cs").contains("            services.AddResponseCaching();\n"));
+    }
+
+    @Test
+    public void testStreamingArrays() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, String> files = generate(output, new HashMap<String, Object>());
+        TestUtils.ensureDoesNotContainFile(files, output, SOURCES + "Results/StreamingArrayResult.cs");
+        Assert.assertFalse(TestUtils.getGeneratedFile(files, output, SOURCES + "Controllers/ItemApi.cs").contains("StreamingArrayResult"));
+
+        output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(AspNetCoreServerCodegen.USE_STREAMING_ARRAYS, true);
+        files = generate(output, properties);
+        TestUtils.ensureContainsFile(files, output, SOURCES + "Results/StreamingArrayResult.cs");
+
+        // only the arrays are streamed
+        String controller = TestUtils.getGeneratedFile(files, output, SOURCES + "Controllers/ItemApi.cs");
+        Assert.assertTrue(controller.contains("            return new StreamingArrayResult<Item>(example.ToAsyncEnumerable());\n"));
+        Assert.assertTrue(controller.contains("            return new StreamingArrayResult<string>(example.ToAsyncEnumerable());\n"));
+        Assert.assertEquals(count(controller, "return new StreamingArrayResult<"), 2);
+        Assert.assertEquals(count(controller, "return new ObjectResult(example);"), 2);
+    }
+
+    @Test
+    public void testResponseCompression() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(AspNetCoreServerCodegen.USE_RESPONSE_COMPRESSION, true);
+        String startup = TestUtils.getGeneratedFile(generate(output, properties), output, SOURCES + "Startup.cs");
+        Assert.assertTrue(startup.contains("            services.AddResponseCompression(options =>\n"));
+        Assert.assertTrue(startup.contains("            app.UseResponseCompression();\n"));
+        // the responses sent over HTTPS are only compressed on demand
+        Assert.assertFalse(startup.contains("EnableForHttps"));
+
+        output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        properties.put(AspNetCoreServerCodegen.USE_RESPONSE_COMPRESSION_FOR_HTTPS, true);
+        startup = TestUtils.getGeneratedFile(generate(output, properties), output, SOURCES + "Startup.cs");
+        Assert.assertTrue(startup.contains("                options.EnableForHttps = true;\n"));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cpp;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.languages.CppPistacheServerCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CppPistacheServerCodegenTest {
+
+    private static Map<String, String> generate(Map<String, Object> properties, File output) {
+        return TestUtils.generate("cpp-pistache-server", "src/test/resources/2_0/petstore.yaml", properties, output).getFiles();
+    }
+
+    @Test
+    public void testDefaultOptions() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, String> files = generate(new HashMap<String, Object>(), output);
+
+        String main = TestUtils.getGeneratedFile(files, output, "main-api-server.cpp");
+        Assert.assertTrue(main.contains("#ifndef PISTACHE_SERVER_THREADS\n#define PISTACHE_SERVER_THREADS 2\n#endif\n"));
+        Assert.assertTrue(main.contains("#ifndef PISTACHE_SERVER_MAX_REQUEST_SIZE\n#define PISTACHE_SERVER_MAX_REQUEST_SIZE 4096\n#endif\n"));
+        Assert.assertFalse(main.contains("PISTACHE_SERVER_KEEP_ALIVE_TIMEOUT"));
+        Assert.assertTrue(main.contains("        .maxRequestSize(PISTACHE_SERVER_MAX_REQUEST_SIZE);\n"));
+
+        String api = TestUtils.getGeneratedFile(files, output, "api/PetApi.h");
+        Assert.assertTrue(api.contains("    virtual void get_pet_by_id(const int64_t &petId, Pistache::Http::ResponseWriter &response) = 0;\n"));
+        Assert.assertFalse(api.contains("Pistache::Async::Promise"));
+    }
+
+    @Test
+    public void testEndpointOptionsAndAsyncHandlers() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(CppPistacheServerCodegen.THREADS, 8);
+        properties.put(CppPistacheServerCodegen.MAX_REQUEST_SIZE, 65536);
+        properties.put(CppPistacheServerCodegen.KEEP_ALIVE_TIMEOUT, 30);
+        properties.put(CppPistacheServerCodegen.ASYNC_HANDLERS, true);
+        Map<String, String> files = generate(properties, output);
+
+        String main = TestUtils.getGeneratedFile(files, output, "main-api-server.cpp");
+        Assert.assertTrue(main.contains("#define PISTACHE_SERVER_THREADS 8\n"));
+        Assert.assertTrue(main.contains("#define PISTACHE_SERVER_MAX_REQUEST_SIZE 65536\n"));
+        Assert.assertTrue(main.contains("#ifndef PISTACHE_SERVER_KEEP_ALIVE_TIMEOUT\n#define PISTACHE_SERVER_KEEP_ALIVE_TIMEOUT 30\n#endif\n"));
+        Assert.assertTrue(main.contains("        .threads(PISTACHE_SERVER_THREADS)\n"
+                + "        .maxRequestSize(PISTACHE_SERVER_MAX_REQUEST_SIZE)\n"
+                + "        .keepaliveTimeout(std::chrono::seconds(PISTACHE_SERVER_KEEP_ALIVE_TIMEOUT));\n"));
+
+        // the operations own the response writer and return the promise of the response
+        String api = TestUtils.getGeneratedFile(files, output, "api/PetApi.h");
+        Assert.assertTrue(api.contains("    virtual Pistache::Async::Promise<ssize_t> get_pet_by_id(const int64_t &petId, Pistache::Http::ResponseWriter response) = 0;\n"));
+        Assert.assertTrue(api.contains("    virtual Pistache::Async::Promise<ssize_t> upload_file(const Pistache::Rest::Request &request, Pistache::Http::ResponseWriter response) = 0;\n"));
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, "impl/PetApiImpl.h").contains("    Pistache::Async::Promise<ssize_t> get_pet_by_id(const int64_t &petId, Pistache::Http::ResponseWriter response);\n"));
+    }
+
+    @Test
+    public void testScalarModels() throws Exception {
+        final OpenAPI openAPI = new OpenAPIParser().readLocation("src/test/resources/2_0/petstore.yaml", null, new ParseOptions()).getOpenAPI();
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        final CppPistacheServerCodegen codegen = new CppPistacheServerCodegen();
+
+        // the models made of scalar properties, strings and dates included
+        for (String name : new String[]{"Category", "Tag", "Order", "User", "ApiResponse"}) {
+            CodegenModel model = codegen.fromModel(name, schemas.get(name), schemas);
+            Assert.assertEquals(model.vendorExtensions.get("x-codegen-pistache-isScalar"), Boolean.TRUE, name);
+        }
+        // not those with a list or a model
+        CodegenModel pet = codegen.fromModel("Pet", schemas.get("Pet"), schemas);
+        Assert.assertEquals(pet.vendorExtensions.get("x-codegen-pistache-isScalar"), Boolean.FALSE);
+        // nor those without properties
+        CodegenModel empty = codegen.fromModel("Empty", new Schema().type("object"), schemas);
+        Assert.assertEquals(empty.vendorExtensions.get("x-codegen-pistache-isScalar"), Boolean.FALSE);
+    }
+
+    @Test
+    public void testScalarModelParsing() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, String> files = generate(new HashMap<String, Object>(), output);
+
+        // the scalar models are read with the SAX parser, the others keep the DOM path
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, "model/Category.h").contains("    void fromJsonString(const std::string& body) override;\n"));
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, "model/Category.cpp").contains("void Category::fromJsonString(const std::string& body)\n"));
+        Assert.assertFalse(TestUtils.getGeneratedFile(files, output, "model/Pet.h").contains("fromJsonString"));
+        Assert.assertFalse(TestUtils.getGeneratedFile(files, output, "model/Pet.cpp").contains("fromJsonString"));
+
+        // a property having an object or an array as value is called back with an empty one, failing when it is read
+        String reader = TestUtils.getGeneratedFile(files, output, "model/ModelBase.cpp");
+        Assert.assertTrue(reader.contains("bool ModelSaxReader::start_object(std::size_t elements)\n{\n"
+                + "    if (m_Depth == 1)\n    {\n"
+                + "        // the value of a property is an object: read as a scalar, it fails like fromJson does\n"
+                + "        m_Callback(m_Key, nlohmann::json::object());\n    }\n"));
+        Assert.assertTrue(reader.contains("        throw std::runtime_error(\"Expected a JSON object\");\n    }\n"
+                + "    if (m_Depth == 1)\n    {\n"
+                + "        // the value of a property is an array: read as a scalar, it fails like fromJson does\n"
+                + "        m_Callback(m_Key, nlohmann::json::array());\n    }\n"));
+        // and reading it throws a type_error, answered with a 400 like the DOM path
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, "model/Category.cpp").contains("            setId(value.get<int64_t>());\n"));
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, "api/PetApi.cpp").contains("    } catch (nlohmann::json::exception & e) {\n"
+                + "      //send a 400 error\n      response.send(Pistache::Http::Code::Bad_Request, e.what());\n"));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.examples;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class ExampleGeneratorTest {
+
+    private static OpenAPI createOpenAPI(int maxItems) {
+        Schema item = new ObjectSchema()
+                .addProperties("id", new IntegerSchema())
+                .addProperties("name", new StringSchema());
+        Schema matrix = new ArraySchema().items(new ArraySchema().items(new Schema().$ref("#/components/schemas/Item")).maxItems(maxItems)).maxItems(maxItems);
+        Schema wrapper = new ObjectSchema().addProperties("matrix", matrix);
+        return new OpenAPI().components(new Components()
+                .addSchemas("Item", item)
+                .addSchemas("Wrapper", wrapper));
+    }
+
+    private static String generateJson(ExampleGenerator generator, String modelName) {
+        List<Map<String, String>> examples = generator.generate(null, Collections.singletonList("application/json"), modelName);
+        Assert.assertEquals(examples.size(), 1);
+        return examples.get(0).get("example");
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    public void testMemoizedExamplesAreCopied() {
+        OpenAPI openAPI = createOpenAPI(2);
+        ExampleGenerator generator = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI);
+
+        List<Map<String, String>> first = generator.generateFromResponseSchema("200", new Schema().$ref("#/components/schemas/Item"), Collections.singleton("application/json"));
+        List<Map<String, String>> second = generator.generateFromResponseSchema("201", new Schema().$ref("#/components/schemas/Item"), Collections.singleton("application/json"));
+
+        Assert.assertEquals(first.get(0).get("statusCode"), "200");
+        Assert.assertEquals(second.get(0).get("statusCode"), "201");
+        Assert.assertEquals(second.get(0).get("example"), first.get(0).get("example"));
+    }
+
+    @Test
+    public void testElementBudgetShortensArrays() {
+        OpenAPI openAPI = createOpenAPI(1000);
+        ExampleGenerator unlimited = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI);
+        unlimited.setMaxElements(Integer.MAX_VALUE);
+        unlimited.setMaxSize(Integer.MAX_VALUE);
+        Assert.assertEquals(count(generateJson(unlimited, "Wrapper"), "\"id\""), 1000 * 1000);
+
+        openAPI = createOpenAPI(1000);
+        ExampleGenerator limited = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI);
+        limited.setMaxElements(300);
+        String example = generateJson(limited, "Wrapper");
+        int items = count(example, "\"id\"");
+        Assert.assertTrue(items > 1 && items <= 100, "unexpected number of items: " + items);
+    }
+
+    @Test
+    public void testSizeBudgetCollapsesArrays() {
+        OpenAPI openAPI = createOpenAPI(50);
+        ExampleGenerator generator = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI);
+        generator.setMaxSize(1000);
+        String example = generateJson(generator, "Wrapper");
+        Assert.assertEquals(count(example, "\"id\""), 1);
+        Assert.assertTrue(example.length() <= 1000);
+    }
+
+    @Test
+    public void testSizeBudgetSkipsExample() {
+        OpenAPI openAPI = createOpenAPI(2);
+        ExampleGenerator generator = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI);
+        generator.setMaxSize(10);
+        List<Map<String, String>> examples = generator.generate(null, Collections.singletonList("application/json"), "Item");
+        Assert.assertEquals(examples.size(), 1);
+        Assert.assertEquals(examples.get(0).get("output"), "none");
+    }
+}
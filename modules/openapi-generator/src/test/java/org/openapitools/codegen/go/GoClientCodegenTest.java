@@ -24,11 +24,17 @@ import io.swagger.v3.parser.core.models.ParseOptions;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.CodegenOperation;
 import org.openapitools.codegen.CodegenParameter;
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.languages.GoClientCodegen;
 import org.openapitools.codegen.languages.RubyClientCodegen;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
 public class GoClientCodegenTest {
 
     @Test
@@ -89,4 +95,56 @@ public class GoClientCodegenTest {
         Assert.assertEquals(codegen.toApiFilename("Animal Farm Test"), "api_animal_farm_test_");
     }
 
+    @Test
+    public void testPooledBuffersAndSharedTransport() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("go")
+                .setInputSpec("src/test/resources/2_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        Map<String, String> generatedFiles = generator.getFiles();
+
+        String petApi = generatedFiles.get(new File(output, "api_pet.go").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(petApi.contains("defer putBuffer(localVarBodyBuf)"));
+        Assert.assertFalse(petApi.contains("ioutil.ReadAll(localVarHttpResponse.Body)"));
+
+        String client = generatedFiles.get(new File(output, "client.go").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(client.contains("cfg.HTTPClient = &http.Client{Transport: sharedTransport(*cfg.Transport)}"));
+        Assert.assertTrue(client.contains("var bufferPool = sync.Pool{"));
+
+        String configuration = generatedFiles.get(new File(output, "configuration.go").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(configuration.contains("func NewTransportConfig() *TransportConfig {"));
+
+        // MaxConnsPerHost needs Go 1.11, so it is only generated on demand
+        Assert.assertFalse(client.contains("MaxConnsPerHost"));
+        Assert.assertFalse(configuration.contains("MaxConnsPerHost"));
+    }
+
+    @Test
+    public void testWithMaxConnsPerHost() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("go")
+                .addAdditionalProperty(GoClientCodegen.WITH_MAX_CONNS_PER_HOST, true)
+                .setInputSpec("src/test/resources/2_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        Map<String, String> generatedFiles = generator.getFiles();
+
+        String client = generatedFiles.get(new File(output, "client.go").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(client.contains("\t\t\tMaxConnsPerHost:       tc.MaxConnsPerHost,\n"));
+
+        String configuration = generatedFiles.get(new File(output, "configuration.go").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(configuration.contains("\tMaxConnsPerHost int\n"));
+    }
+
 }
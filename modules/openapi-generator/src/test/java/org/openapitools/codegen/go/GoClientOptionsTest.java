@@ -51,6 +51,8 @@ public class GoClientOptionsTest extends AbstractOptionsTest {
             times = 1;
             clientCodegen.setWithXml(GoClientOptionsProvider.WITH_XML_VALUE);
             times = 1;
+            clientCodegen.setWithMaxConnsPerHost(GoClientOptionsProvider.WITH_MAX_CONNS_PER_HOST_VALUE);
+            times = 1;
             clientCodegen.setPrependFormOrBodyParameters(Boolean.valueOf(GoClientOptionsProvider.PREPEND_FORM_OR_BODY_PARAMETERS_VALUE));
             times = 1;
         }};
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.go;
+
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.languages.GoServerCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class GoServerCodegenTest {
+
+    private static Map<String, String> generate(boolean staticRouter, File output) {
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(GoServerCodegen.STATIC_ROUTER, staticRouter);
+        return TestUtils.generate("go-server", "src/test/resources/2_0/petstore.yaml", properties, output).getFiles();
+    }
+
+    @Test
+    public void testStaticRouter() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, String> files = generate(true, output);
+
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, "main.go").contains("\trouter := sw.NewStaticRouter()\n"));
+        String router = TestUtils.getGeneratedFile(files, output, "go/static_router.go");
+        Assert.assertTrue(router.contains("func NewStaticRouter() *StaticRouter {\n\treturn newStaticRouter(routes, Logger)\n}"));
+        Assert.assertTrue(router.contains("func PathParam(r *http.Request, name string) string {"));
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, "go/static_router_test.go").contains("func TestStaticRouter(t *testing.T) {"));
+        // the gorilla/mux router is still generated, for the patterns the tree cannot match
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, "go/routers.go").contains("func NewRouter() *mux.Router {"));
+    }
+
+    @Test
+    public void testMuxRouterByDefault() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, String> files = generate(false, output);
+
+        Assert.assertTrue(TestUtils.getGeneratedFile(files, output, "main.go").contains("\trouter := sw.NewRouter()\n"));
+        TestUtils.ensureDoesNotContainFile(files, output, "go/static_router.go");
+        TestUtils.ensureDoesNotContainFile(files, output, "go/static_router_test.go");
+    }
+}
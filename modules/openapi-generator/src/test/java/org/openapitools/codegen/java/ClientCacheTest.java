@@ -0,0 +1,241 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.java;
+
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the generated ClientCache and answers requests through it from a stub server, the way the
+ * generated interceptors and filters do.
+ */
+public class ClientCacheTest {
+
+    private static final String URL = "http://localhost:8000/items/1";
+
+    private Class<?> cacheClass;
+    private Class<?> entryClass;
+
+    @BeforeClass
+    public void compileClientCache() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JavaClientCodegen.CLIENT_CACHE, true);
+        properties.put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/3_0/client-cache.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        String source = generator.getFiles().get(new File(output, "src/main/java/org/openapitools/client/ClientCache.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertNotNull(source);
+
+        File sources = new File(output, "org/openapitools/client");
+        Assert.assertTrue(sources.mkdirs());
+        File file = new File(sources, "ClientCache.java");
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assert.assertEquals(compiler.run(null, null, null, "-nowarn", "-d", output.getAbsolutePath(), file.getAbsolutePath()), 0);
+
+        ClassLoader loader = new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader());
+        cacheClass = loader.loadClass("org.openapitools.client.ClientCache");
+        entryClass = loader.loadClass("org.openapitools.client.ClientCache$Entry");
+    }
+
+    /**
+     * A server answering with the configured response, recording the headers of the requests it receives.
+     */
+    private static class StubServer {
+        int code = 200;
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        String body = "";
+        final List<Map<String, List<String>>> requests = new ArrayList<>();
+
+        StubServer header(String name, String value) {
+            headers.put(name, Collections.singletonList(value));
+            return this;
+        }
+    }
+
+    private Object newCache(Object... arguments) throws Exception {
+        Class<?>[] types = arguments.length == 1
+                ? new Class<?>[]{long.class}
+                : new Class<?>[]{long.class, File.class, long.class};
+        Constructor<?> constructor = cacheClass.getConstructor(types);
+        return constructor.newInstance(arguments);
+    }
+
+    private Object call(Object target, String name, Object... arguments) throws Exception {
+        for (Method method : target.getClass().getDeclaredMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == arguments.length) {
+                method.setAccessible(true);
+                return method.invoke(target, arguments);
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    private long count(Object cache, String name) throws Exception {
+        return (Long) call(cache, name);
+    }
+
+    /**
+     * Send a GET request through the cache, following the steps of the generated interceptors.
+     *
+     * @return the body of the response
+     */
+    @SuppressWarnings("unchecked")
+    private String get(Object cache, StubServer server) throws Exception {
+        Map<String, List<String>> requestHeaders = new HashMap<>();
+        Object entry = call(cache, "get", URL, requestHeaders);
+        if (entry != null && (Boolean) call(cache, "isFresh", entry, requestHeaders)) {
+            call(cache, "recordHit");
+            return new String((byte[]) call(entry, "getBody"), StandardCharsets.UTF_8);
+        }
+
+        Map<String, List<String>> networkHeaders = new HashMap<>(requestHeaders);
+        if (entry != null) {
+            for (Map.Entry<String, String> header : ((Map<String, String>) call(entry, "getConditionalHeaders")).entrySet()) {
+                networkHeaders.put(header.getKey(), Collections.singletonList(header.getValue()));
+            }
+        }
+        server.requests.add(networkHeaders);
+        if (entry != null && server.code == 304) {
+            call(cache, "recordConditionalHit");
+            Object updated = call(cache, "update", URL, entry, server.headers);
+            return new String((byte[]) call(updated, "getBody"), StandardCharsets.UTF_8);
+        }
+
+        call(cache, "recordMiss");
+        if ((Boolean) call(cache, "isStorable", server.code, requestHeaders, server.headers)) {
+            call(cache, "put", URL, requestHeaders, server.code, "OK", server.headers, server.body.getBytes(StandardCharsets.UTF_8));
+        } else {
+            call(cache, "remove", URL);
+        }
+        return server.body;
+    }
+
+    @Test
+    public void testMissThenHit() throws Exception {
+        Object cache = newCache(1024L);
+        StubServer server = new StubServer().header("Cache-Control", "max-age=60");
+        server.body = "{\"id\":\"1\"}";
+
+        Assert.assertEquals(get(cache, server), "{\"id\":\"1\"}");
+        Assert.assertEquals(server.requests.size(), 1);
+        Assert.assertEquals(count(cache, "getMissCount"), 1);
+
+        // fresh: answered without a request
+        server.body = "changed";
+        Assert.assertEquals(get(cache, server), "{\"id\":\"1\"}");
+        Assert.assertEquals(server.requests.size(), 1);
+        Assert.assertEquals(count(cache, "getHitCount"), 1);
+    }
+
+    @Test
+    public void testConditionalRevalidation() throws Exception {
+        Object cache = newCache(1024L);
+        StubServer server = new StubServer().header("Cache-Control", "max-age=0").header("ETag", "\"v1\"");
+        server.body = "{\"id\":\"1\"}";
+
+        Assert.assertEquals(get(cache, server), "{\"id\":\"1\"}");
+        Assert.assertFalse(server.requests.get(0).containsKey("If-None-Match"));
+
+        // stale: revalidated with the ETag, the cached body is returned on 304
+        server.code = 304;
+        server.headers = new LinkedHashMap<>();
+        server.header("Cache-Control", "max-age=60").header("ETag", "\"v1\"");
+        server.body = "";
+        Assert.assertEquals(get(cache, server), "{\"id\":\"1\"}");
+        Assert.assertEquals(server.requests.size(), 2);
+        Assert.assertEquals(server.requests.get(1).get("If-None-Match"), Collections.singletonList("\"v1\""));
+        Assert.assertEquals(count(cache, "getConditionalHitCount"), 1);
+
+        // refreshed by the headers of the 304 response
+        Assert.assertEquals(get(cache, server), "{\"id\":\"1\"}");
+        Assert.assertEquals(server.requests.size(), 2);
+        Assert.assertEquals(count(cache, "getHitCount"), 1);
+    }
+
+    @Test
+    public void testNotStorable() throws Exception {
+        Object cache = newCache(1024L);
+        StubServer server = new StubServer().header("Cache-Control", "no-store");
+        server.body = "{\"id\":\"1\"}";
+
+        get(cache, server);
+        get(cache, server);
+        Assert.assertEquals(server.requests.size(), 2);
+        Assert.assertEquals(count(cache, "getMissCount"), 2);
+        Assert.assertEquals(call(cache, "getEntryCount"), 0);
+    }
+
+    @Test
+    public void testSpillToDirectory() throws Exception {
+        File directory = Files.createTempDirectory("cache").toFile();
+        directory.deleteOnExit();
+        Object cache = newCache(64L, directory, 1024L);
+        Map<String, List<String>> headers = Collections.singletonMap("Cache-Control", Collections.singletonList("max-age=60"));
+        Map<String, List<String>> requestHeaders = new HashMap<>();
+
+        call(cache, "put", URL, requestHeaders, 200, "OK", headers, "first response".getBytes(StandardCharsets.UTF_8));
+        call(cache, "put", URL + "0", requestHeaders, 200, "OK", headers, "other response".getBytes(StandardCharsets.UTF_8));
+
+        // the first entry was evicted from memory and written to the directory
+        Assert.assertEquals(count(cache, "getEvictionCount"), 1);
+        File[] files = directory.listFiles();
+        Assert.assertNotNull(files);
+        Assert.assertEquals(files.length, 1);
+        Assert.assertTrue(files[0].getName().endsWith(".cache"));
+
+        Object entry = call(cache, "get", URL, requestHeaders);
+        Assert.assertNotNull(entry);
+        Assert.assertEquals(new String((byte[]) call(entry, "getBody"), StandardCharsets.UTF_8), "first response");
+        Assert.assertTrue(entryClass.isInstance(entry));
+
+        // an entry removed from the cache is not served from the directory
+        call(cache, "remove", URL + "0");
+        Assert.assertNull(call(cache, "get", URL + "0", requestHeaders));
+    }
+}
@@ -52,7 +52,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class JavaClientCodegenTest {
 
@@ -252,42 +251,43 @@ public class JavaClientCodegenTest {
         generator.opts(clientOptInput).generate();
 
         Map<String, String> generatedFiles = generator.getFiles();
-        Assert.assertEquals(generatedFiles.size(), 37);
-        ensureContainsFile(generatedFiles, output, ".gitignore");
-        ensureContainsFile(generatedFiles, output, ".openapi-generator-ignore");
-        ensureContainsFile(generatedFiles, output, ".openapi-generator/VERSION");
-        ensureContainsFile(generatedFiles, output, ".travis.yml");
-        ensureContainsFile(generatedFiles, output, "build.gradle");
-        ensureContainsFile(generatedFiles, output, "build.sbt");
-        ensureContainsFile(generatedFiles, output, "docs/DefaultApi.md");
-        ensureContainsFile(generatedFiles, output, "git_push.sh");
-        ensureContainsFile(generatedFiles, output, "gradle.properties");
-        ensureContainsFile(generatedFiles, output, "gradle/wrapper/gradle-wrapper.jar");
-        ensureContainsFile(generatedFiles, output, "gradle/wrapper/gradle-wrapper.properties");
-        ensureContainsFile(generatedFiles, output, "gradlew.bat");
-        ensureContainsFile(generatedFiles, output, "gradlew");
-        ensureContainsFile(generatedFiles, output, "pom.xml");
-        ensureContainsFile(generatedFiles, output, "README.md");
-        ensureContainsFile(generatedFiles, output, "settings.gradle");
-        ensureContainsFile(generatedFiles, output, "src/main/AndroidManifest.xml");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/api/DefaultApi.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ApiCallback.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ApiClient.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ApiException.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ApiResponse.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/ApiKeyAuth.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/Authentication.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/HttpBasicAuth.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/OAuth.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/OAuthFlow.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/Configuration.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/GzipRequestInterceptor.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/JSON.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/Pair.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ProgressRequestBody.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ProgressResponseBody.java");
-        ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/StringUtil.java");
-        ensureContainsFile(generatedFiles, output, "src/test/java/xyz/abcdef/api/DefaultApiTest.java");
+        Assert.assertEquals(generatedFiles.size(), 38);
+        TestUtils.ensureContainsFile(generatedFiles, output, ".gitignore");
+        TestUtils.ensureContainsFile(generatedFiles, output, ".openapi-generator-ignore");
+        TestUtils.ensureContainsFile(generatedFiles, output, ".openapi-generator/VERSION");
+        TestUtils.ensureContainsFile(generatedFiles, output, ".travis.yml");
+        TestUtils.ensureContainsFile(generatedFiles, output, "build.gradle");
+        TestUtils.ensureContainsFile(generatedFiles, output, "build.sbt");
+        TestUtils.ensureContainsFile(generatedFiles, output, "docs/DefaultApi.md");
+        TestUtils.ensureContainsFile(generatedFiles, output, "git_push.sh");
+        TestUtils.ensureContainsFile(generatedFiles, output, "gradle.properties");
+        TestUtils.ensureContainsFile(generatedFiles, output, "gradle/wrapper/gradle-wrapper.jar");
+        TestUtils.ensureContainsFile(generatedFiles, output, "gradle/wrapper/gradle-wrapper.properties");
+        TestUtils.ensureContainsFile(generatedFiles, output, "gradlew.bat");
+        TestUtils.ensureContainsFile(generatedFiles, output, "gradlew");
+        TestUtils.ensureContainsFile(generatedFiles, output, "pom.xml");
+        TestUtils.ensureContainsFile(generatedFiles, output, "README.md");
+        TestUtils.ensureContainsFile(generatedFiles, output, "settings.gradle");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/AndroidManifest.xml");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/api/DefaultApi.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ApiCallback.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ApiClient.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ApiException.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ApiResponse.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ClientConfiguration.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/ApiKeyAuth.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/Authentication.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/HttpBasicAuth.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/OAuth.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/auth/OAuthFlow.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/Configuration.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/GzipRequestInterceptor.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/JSON.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/Pair.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ProgressRequestBody.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/ProgressResponseBody.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/xyz/abcdef/StringUtil.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/test/java/xyz/abcdef/api/DefaultApiTest.java");
 
         String defaultApiFilename = new File(output, "src/main/java/xyz/abcdef/api/DefaultApi.java").getAbsolutePath().replace("\\", "/");
         String defaultApiConent = generatedFiles.get(defaultApiFilename);
@@ -342,14 +342,330 @@ public class JavaClientCodegenTest {
         Assert.assertEquals(cm.getClassname(), "OtherObj");
     }
 
-    private void ensureContainsFile(Map<String, String> generatedFiles, File root, String filename) {
-        File file = new File(root, filename);
-        String absoluteFilename = file.getAbsolutePath().replace("\\", "/");
-        if(!generatedFiles.containsKey(absoluteFilename)) {
-            Assert.fail("Could not find '" + absoluteFilename + "' file in list:\n" + 
-                    generatedFiles.keySet().stream().sorted().collect(Collectors.joining(",\n")));
+    @Test
+    public void testGsonTypeAdapters() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JavaClientCodegen.GSON_TYPE_ADAPTERS, true);
+
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/GsonTypeAdapterFactory.java");
+
+        String factory = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/GsonTypeAdapterFactory.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(factory.contains("new Cat.GsonTypeAdapter(gson)"));
+        Assert.assertFalse(factory.contains("EnumClass"));
+
+        String cat = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/model/Cat.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(cat.contains("public static class GsonTypeAdapter extends TypeAdapter<Cat>"));
+        Assert.assertTrue(cat.contains("superclassFields.writeFields(out, value);"));
+
+        String json = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/JSON.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(json.contains("builder.registerTypeAdapterFactory(new GsonTypeAdapterFactory());"));
+        Assert.assertFalse(json.contains(".registerTypeSelector(Animal.class"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testGsonTypeAdaptersOfModelWithoutProperties() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JavaClientCodegen.GSON_TYPE_ADAPTERS, true);
+
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/3_0/empty-model.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+
+        String empty = generator.getFiles().get(new File(output, "src/main/java/org/openapitools/client/model/Empty.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(empty.contains("public static class GsonTypeAdapter extends TypeAdapter<Empty>"));
+        Assert.assertTrue(empty.contains("import com.google.gson.TypeAdapter;\n"));
+        Assert.assertTrue(empty.contains("import com.google.gson.stream.JsonReader;\n"));
+        Assert.assertTrue(empty.contains("import com.google.gson.stream.JsonWriter;\n"));
+        Assert.assertTrue(empty.contains("import java.io.IOException;\n"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testGsonTypeAdaptersIgnoredForOtherLibraries() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.JERSEY2);
+        codegen.additionalProperties().put(JavaClientCodegen.GSON_TYPE_ADAPTERS, true);
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.GSON_TYPE_ADAPTERS), Boolean.FALSE);
+        Assert.assertFalse(codegen.supportingFiles().stream()
+                .anyMatch(file -> "GsonTypeAdapterFactory.mustache".equals(file.templateFile)));
+    }
+
+    @Test
+    public void testJacksonSerializers() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JavaClientCodegen.JACKSON_SERIALIZERS, true);
+
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.JERSEY2)
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/JacksonSerializersModule.java");
+
+        String module = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/JacksonSerializersModule.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(module.contains("return new Cat.JacksonSerializer();"));
+        Assert.assertTrue(module.contains("return new Cat.JacksonDeserializer();"));
+        Assert.assertFalse(module.contains("EnumClass"));
+
+        String cat = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/model/Cat.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(cat.contains("public static class JacksonSerializer extends StdSerializer<Cat>"));
+        Assert.assertTrue(cat.contains("Animal.JacksonSerializer.writeFields(value, gen, provider);"));
+        Assert.assertTrue(cat.contains("gen.writeBoolean(value.declawed);"));
+
+        String json = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/JSON.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(json.contains("mapper.registerModule(new JacksonSerializersModule());"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testJacksonSerializersRestTemplate() throws Exception {
+        for (String dateLibrary : Arrays.asList("threetenbp", "java8")) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put(JavaClientCodegen.JACKSON_SERIALIZERS, true);
+            properties.put(JavaClientCodegen.DATE_LIBRARY, dateLibrary);
+
+            File output = Files.createTempDirectory("test").toFile();
+
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setLibrary(JavaClientCodegen.RESTTEMPLATE)
+                    .setAdditionalProperties(properties)
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+            MockDefaultGenerator generator = new MockDefaultGenerator();
+            generator.opts(configurator.toClientOptInput()).generate();
+
+            String apiClient = generator.getFiles().get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+            Assert.assertTrue(apiClient.contains("((MappingJackson2HttpMessageConverter)converter).getObjectMapper().registerModule(new JacksonSerializersModule());"), dateLibrary);
+            // the classes used to register the module are imported
+            Assert.assertTrue(apiClient.contains("import org.springframework.http.converter.HttpMessageConverter;\n"), dateLibrary);
+            Assert.assertTrue(apiClient.contains("import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;\n"), dateLibrary);
+
+            output.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testJacksonSerializersIgnoredForOtherLibrariesAndXml() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.OKHTTP_GSON);
+        codegen.additionalProperties().put(JavaClientCodegen.JACKSON_SERIALIZERS, true);
+        codegen.processOpts();
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.JACKSON_SERIALIZERS), Boolean.FALSE);
+
+        final JavaClientCodegen xmlCodegen = new JavaClientCodegen();
+        xmlCodegen.setLibrary(JavaClientCodegen.RESTTEMPLATE);
+        xmlCodegen.additionalProperties().put(JavaClientCodegen.JACKSON_SERIALIZERS, true);
+        xmlCodegen.additionalProperties().put(JavaClientCodegen.WITH_XML, true);
+        xmlCodegen.processOpts();
+        Assert.assertEquals(xmlCodegen.additionalProperties().get(JavaClientCodegen.JACKSON_SERIALIZERS), Boolean.FALSE);
+        Assert.assertFalse(xmlCodegen.supportingFiles().stream()
+                .anyMatch(file -> "JacksonSerializersModule.mustache".equals(file.templateFile)));
+    }
+
+    @Test
+    public void testNativeLibrary() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .setInputSpec("src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        TestUtils.ensureContainsFile(generatedFiles, output, "pom.xml");
+        TestUtils.ensureContainsFile(generatedFiles, output, "build.gradle");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/ApiResponse.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/ApiException.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/JsonBodySubscriber.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/RFC3339DateFormat.java");
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/auth/Authentication.java");
+        Assert.assertFalse(generatedFiles.containsKey(new File(output, "build.sbt").getAbsolutePath().replace("\\", "/")));
+
+        String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(apiClient.contains(".version(HttpClient.Version.HTTP_2)"));
+        Assert.assertTrue(apiClient.contains("getHttpClient().sendAsync(request, bodyHandler(returnType))"));
+        Assert.assertTrue(apiClient.contains("HttpResponse.BodySubscribers.ofFile(prepareDownloadFile(responseInfo.headers()))"));
+        Assert.assertTrue(apiClient.contains("mapper.registerModule(new JavaTimeModule());"));
+
+        String petApi = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/api/PetApi.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(petApi.contains("public CompletableFuture<Pet> getPetByIdAsync(Long petId)"));
+        Assert.assertTrue(petApi.contains("public CompletableFuture<ApiResponse<Void>> addPetWithHttpInfoAsync(Pet pet)"));
+        Assert.assertTrue(petApi.contains("apiClient.invokeAPI(getPetByIdRequest(petId), new TypeReference<Pet>() {});"));
+        Assert.assertFalse(generatedFiles.containsKey(new File(output, "src/main/java/org/openapitools/client/RequestBatcher.java").getAbsolutePath().replace("\\", "/")));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testNativeBatchOperations() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .setInputSpec("src/test/resources/3_0/batch.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+
+        Map<String, String> generatedFiles = generator.getFiles();
+        TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/RequestBatcher.java");
+
+        String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(apiClient.contains("public ApiClient setBatchWindow(Duration batchWindow)"));
+
+        String userApi = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/api/UserApi.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(userApi.contains("getUserByIdBatcher = new RequestBatcher<>(this::getUsersByIdsAsync, User::getId, apiClient.getBatchMaxSize(), apiClient.getBatchWindow());"));
+        Assert.assertTrue(userApi.contains("return getUserByIdBatcher.get(userId);"));
+        Assert.assertTrue(userApi.contains("return getUserByIdBatcher.load(userId);"));
+        // the String key of getUserByName does not match the Long keys of getUsersByIds
+        Assert.assertFalse(userApi.contains("getUserByNameBatcher"));
+
+        output.deleteOnExit();
+    }
+
+    @Test
+    public void testClientCache() throws Exception {
+        for (String library : new String[]{JavaClientCodegen.OKHTTP_GSON, JavaClientCodegen.RETROFIT_2, JavaClientCodegen.JERSEY2}) {
+            File output = Files.createTempDirectory("test").toFile();
+
+            Map<String, Object> properties = new HashMap<>();
+            properties.put(JavaClientCodegen.CLIENT_CACHE, true);
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setLibrary(library)
+                    .setAdditionalProperties(properties)
+                    .setInputSpec("src/test/resources/3_0/client-cache.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+            MockDefaultGenerator generator = new MockDefaultGenerator();
+            generator.opts(configurator.toClientOptInput()).generate();
+
+            Map<String, String> generatedFiles = generator.getFiles();
+            TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/ClientCache.java");
+            String cacheHook = JavaClientCodegen.JERSEY2.equals(library) ? "ClientCacheFilter" : "ClientCacheInterceptor";
+            TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/" + cacheHook + ".java");
+
+            String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+            Assert.assertTrue(apiClient.contains("public ApiClient setClientCache(ClientCache clientCache)"), library);
+            Assert.assertTrue(apiClient.contains("new " + cacheHook + "(new ClientCache(ClientCache.DEFAULT_MAX_BYTES))"), library);
+
+            // only the operation marked with x-client-cache is marked
+            String api = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/api/DefaultApi.java").getAbsolutePath().replace("\\", "/"));
+            Assert.assertTrue(api.indexOf("X-OpenAPI-Client-Cache") > 0, library);
+            Assert.assertEquals(api.indexOf("X-OpenAPI-Client-Cache"), api.lastIndexOf("X-OpenAPI-Client-Cache"), library);
+
+            // the mark is never sent, even by a client without the cache interceptor or filter
+            if (JavaClientCodegen.OKHTTP_GSON.equals(library)) {
+                Assert.assertTrue(apiClient.contains("        if (headerParams.remove(ClientCache.CACHE_HEADER) != null) {\n"
+                        + "            reqBuilder.tag(ClientCacheInterceptor.CACHEABLE);\n"), library);
+            } else if (JavaClientCodegen.JERSEY2.equals(library)) {
+                Assert.assertTrue(apiClient.contains("    boolean cacheable = headerParams.remove(ClientCache.CACHE_HEADER) != null;\n"), library);
+                Assert.assertTrue(apiClient.contains("      invocationBuilder = invocationBuilder.property(ClientCacheFilter.CACHEABLE_OPERATION_PROPERTY, Boolean.TRUE);\n"), library);
+            } else {
+                Assert.assertTrue(apiClient.contains("    this.okBuilder = okClient.newBuilder();\n    okBuilder.addInterceptor(clientCacheInterceptor);\n"), library);
+            }
+
+            output.deleteOnExit();
         }
-        Assert.assertTrue(generatedFiles.containsKey(absoluteFilename), "File '" + absoluteFilename + "' was not fould in the list of generated files");
+    }
+
+    @Test
+    public void testClientCacheIgnoredForOtherLibraries() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.FEIGN);
+        codegen.additionalProperties().put(JavaClientCodegen.CLIENT_CACHE, true);
+        codegen.processOpts();
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.CLIENT_CACHE), Boolean.FALSE);
+        Assert.assertFalse(codegen.supportingFiles().stream()
+                .anyMatch(file -> "ClientCache.mustache".equals(file.templateFile)));
+    }
+
+    @Test
+    public void testClientConfiguration() throws Exception {
+        for (String library : new String[]{JavaClientCodegen.OKHTTP_GSON, JavaClientCodegen.RETROFIT_2, JavaClientCodegen.JERSEY2, JavaClientCodegen.RESTTEMPLATE}) {
+            File output = Files.createTempDirectory("test").toFile();
+
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setLibrary(library)
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+            MockDefaultGenerator generator = new MockDefaultGenerator();
+            generator.opts(configurator.toClientOptInput()).generate();
+
+            Map<String, String> generatedFiles = generator.getFiles();
+            TestUtils.ensureContainsFile(generatedFiles, output, "src/main/java/org/openapitools/client/ClientConfiguration.java");
+
+            String apiClient = generatedFiles.get(new File(output, "src/main/java/org/openapitools/client/ApiClient.java").getAbsolutePath().replace("\\", "/"));
+            Assert.assertTrue(apiClient.contains("public ApiClient(ClientConfiguration clientConfiguration)"), library);
+
+            String readme = generatedFiles.get(new File(output, "README.md").getAbsolutePath().replace("\\", "/"));
+            Assert.assertTrue(readme.contains("## Connection settings"), library);
+
+            if (JavaClientCodegen.RESTTEMPLATE.equals(library)) {
+                // an empty compressed body is not read as a gzip stream
+                Assert.assertTrue(apiClient.contains("                        PushbackInputStream stream = new PushbackInputStream(response.getBody());\n"
+                        + "                        int first = stream.read();\n"
+                        + "                        if (first == -1) {\n"
+                        + "                            body = stream;\n"));
+            }
+
+            output.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testClientConfigurationNotGeneratedForOtherLibraries() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.FEIGN);
+        codegen.processOpts();
+        Assert.assertFalse(codegen.additionalProperties().containsKey("clientConfiguration"));
+        Assert.assertFalse(codegen.supportingFiles().stream()
+                .anyMatch(file -> "ClientConfiguration.mustache".equals(file.templateFile)));
     }
 
     private CodegenProperty codegenPropertyWithArrayOfIntegerValues() {
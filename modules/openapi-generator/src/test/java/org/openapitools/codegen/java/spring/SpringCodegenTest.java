@@ -17,15 +17,29 @@
 
 package org.openapitools.codegen.java.spring;
 
+import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.parser.core.models.ParseOptions;
 
 import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.CodegenProperty;
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.languages.SpringCodegen;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public class SpringCodegenTest {
 
     @Test
@@ -111,4 +125,158 @@ public class SpringCodegenTest {
         Assert.assertEquals(codegen.additionalProperties().get(SpringCodegen.TITLE), "someTest");
         Assert.assertEquals(codegen.additionalProperties().get(SpringCodegen.SERVER_PORT), "8088");
     }
+
+    @Test
+    public void testRouterFunctions() throws Exception {
+        final SpringCodegen codegen = new SpringCodegen();
+        codegen.additionalProperties().put(SpringCodegen.REACTIVE, "true");
+        codegen.additionalProperties().put(SpringCodegen.ROUTER_FUNCTIONS, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(SpringCodegen.ROUTER_FUNCTIONS), Boolean.TRUE);
+        Assert.assertEquals(codegen.apiTemplateFiles().get("apiRouter.mustache"), "Router.java");
+        Assert.assertFalse(codegen.apiTemplateFiles().containsKey("apiController.mustache"));
+    }
+
+    @Test
+    public void testGeneratedRoutes() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("spring")
+                .addAdditionalProperty(SpringCodegen.REACTIVE, true)
+                .addAdditionalProperty(SpringCodegen.ROUTER_FUNCTIONS, true)
+                .setInputSpec("src/test/resources/3_0/spring-router.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        Map<String, String> generatedFiles = generator.getFiles();
+
+        // the static paths are registered before the templated ones
+        String userRouter = generatedFiles.get(new File(output, "src/main/java/org/openapitools/api/UserApiRouter.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(userRouter.contains("        RouterFunction<ServerResponse> routes = route(method(HttpMethod.GET).and(path(\"/user/login\")), this::loginUser)\n"
+                + "                .andRoute(method(HttpMethod.GET).and(path(\"/user/logout\")), this::logoutUser)\n"
+                + "                .andRoute(method(HttpMethod.GET).and(path(\"/user/{username}\")), this::getUserByName);\n"));
+
+        String itemsRouter = generatedFiles.get(new File(output, "src/main/java/org/openapitools/api/ItemsApiRouter.java").getAbsolutePath().replace("\\", "/"));
+        // the lists not exploded are split with the separator of their style
+        Assert.assertTrue(itemsRouter.contains("parameter(\"query parameter\", \"tags\", split(request.queryParams().get(\"tags\"), \",\"), false, new TypeReference<List<String>>() {});"));
+        Assert.assertTrue(itemsRouter.contains("parameter(\"query parameter\", \"ids\", split(request.queryParams().get(\"ids\"), \"\\\\|\"), false, new TypeReference<List<Long>>() {});"));
+        Assert.assertTrue(itemsRouter.contains("parameter(\"query parameter\", \"status\", request.queryParams().get(\"status\"), false, new TypeReference<List<String>>() {});"));
+        Assert.assertTrue(itemsRouter.contains("parameter(\"header\", \"X-Fields\", split(request.headers().header(\"X-Fields\"), \",\"), false, new TypeReference<List<String>>() {});"));
+        // the default values are converted from their text, like the values of the request
+        Assert.assertTrue(itemsRouter.contains("parameter(\"query parameter\", \"limit\", request.queryParam(\"limit\").orElse(\"10\"), false, new TypeReference<Long>() {});"));
+        Assert.assertTrue(itemsRouter.contains("parameter(\"query parameter\", \"order\", request.queryParam(\"order\").orElse(\"asc\"), false, new TypeReference<String>() {});"));
+        // the operations with a MultipartFile are not implemented
+        Assert.assertTrue(itemsRouter.contains("    private Mono<ServerResponse> uploadImage(ServerRequest request) {\n"
+                + "        // MultipartFile parameters are only supported by the annotated controllers of Spring MVC\n"
+                + "        return ServerResponse.status(HttpStatus.NOT_IMPLEMENTED).build();\n"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRouterFunctionsRequireReactive() throws Exception {
+        final SpringCodegen codegen = new SpringCodegen();
+        codegen.additionalProperties().put(SpringCodegen.ROUTER_FUNCTIONS, "true");
+        codegen.processOpts();
+    }
+
+    @Test
+    public void testUseGeneratedValidation() throws Exception {
+        final SpringCodegen codegen = new SpringCodegen();
+        codegen.additionalProperties().put(SpringCodegen.USE_GENERATED_VALIDATION, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(SpringCodegen.USE_GENERATED_VALIDATION), Boolean.TRUE);
+        Assert.assertEquals(codegen.additionalProperties().get(SpringCodegen.USE_BEANVALIDATION), Boolean.FALSE);
+        Assert.assertEquals(codegen.modelTemplateFiles().get("modelValidator.mustache"), "Validator.java");
+        Assert.assertEquals(codegen.apiTemplateFiles().get("apiValidator.mustache"), "Validator.java");
+        // the validation is done by the _operation methods, not by those the implementations override
+        Assert.assertEquals(codegen.additionalProperties().get("delegate-method"), Boolean.TRUE);
+
+        final SpringCodegen delegate = new SpringCodegen();
+        delegate.additionalProperties().put(SpringCodegen.USE_GENERATED_VALIDATION, "true");
+        delegate.additionalProperties().put(SpringCodegen.DELEGATE_PATTERN, "true");
+        delegate.processOpts();
+        Assert.assertNull(delegate.additionalProperties().get("delegate-method"));
+    }
+
+    @Test
+    public void testGeneratedValidationNotOverridden() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("spring")
+                .addAdditionalProperty(SpringCodegen.USE_GENERATED_VALIDATION, true)
+                .setInputSpec("src/test/resources/2_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+
+        String petApi = generator.getFiles().get(new File(output, "src/main/java/org/openapitools/api/PetApi.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(petApi.contains("    default ResponseEntity<Pet> _getPetById(@ApiParam(value = \"ID of pet to return\",required=true) @PathVariable(\"petId\") Long petId) {\n"
+                + "        PetApiValidator.getPetById(petId);\n"
+                + "        return getPetById(petId);\n"
+                + "    }\n"));
+        Assert.assertTrue(petApi.contains("    // Override this method\n    default ResponseEntity<Pet> getPetById(Long petId) {\n        getRequest()"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUseGeneratedValidationNotInterfaceOnly() throws Exception {
+        final SpringCodegen codegen = new SpringCodegen();
+        codegen.additionalProperties().put(SpringCodegen.USE_GENERATED_VALIDATION, "true");
+        codegen.additionalProperties().put(SpringCodegen.INTERFACE_ONLY, "true");
+        codegen.additionalProperties().put(SpringCodegen.JAVA_8, "false");
+        codegen.processOpts();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUseGeneratedValidationNotReactive() throws Exception {
+        final SpringCodegen codegen = new SpringCodegen();
+        codegen.additionalProperties().put(SpringCodegen.REACTIVE, "true");
+        codegen.additionalProperties().put(SpringCodegen.USE_GENERATED_VALIDATION, "true");
+        codegen.processOpts();
+    }
+
+    @Test
+    public void testGeneratedValidationExtensions() throws Exception {
+        final OpenAPI openAPI = new OpenAPIParser().readLocation("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml", null, new ParseOptions()).getOpenAPI();
+        final SpringCodegen codegen = new SpringCodegen();
+        codegen.additionalProperties().put(SpringCodegen.USE_GENERATED_VALIDATION, "true");
+        codegen.processOpts();
+
+        final Map<String, Object> models = new HashMap<String, Object>();
+        for (String name : Arrays.asList("format_test", "Pet", "Tag", "Category")) {
+            final CodegenModel model = codegen.fromModel(name, openAPI.getComponents().getSchemas().get(name), openAPI.getComponents().getSchemas());
+            final Map<String, Object> mo = new HashMap<String, Object>();
+            mo.put("model", model);
+            final Map<String, Object> inner = new HashMap<String, Object>();
+            inner.put("models", Collections.singletonList(mo));
+            models.put(name, inner);
+        }
+        codegen.postProcessAllModels(models);
+
+        final CodegenModel formatTest = (CodegenModel) ((List<Map<String, Object>>) ((Map<String, Object>) models.get("format_test")).get("models")).get(0).get("model");
+        final Map<String, CodegenProperty> vars = new HashMap<String, CodegenProperty>();
+        for (CodegenProperty property : formatTest.vars) {
+            vars.put(property.baseName, property);
+        }
+        Assert.assertEquals(vars.get("integer").vendorExtensions.get("x-validator-minimum"), "value < 10");
+        Assert.assertEquals(vars.get("int32").vendorExtensions.get("x-validator-maximum"), "value > 200");
+        Assert.assertEquals(vars.get("number").vendorExtensions.get("x-validator-minimum"), "value.compareTo(new BigDecimal(\"32.1\")) < 0");
+        Assert.assertEquals(vars.get("password").vendorExtensions.get("x-validator-length"), "value.length() < 10 || value.length() > 64");
+        Assert.assertEquals(vars.get("pattern_with_digits").vendorExtensions.get("x-validator-pattern"), "PATTERN_WITH_DIGITS_PATTERN");
+        Assert.assertEquals(vars.get("binary").vendorExtensions.get("x-validated"), Boolean.FALSE);
+
+        final CodegenModel pet = (CodegenModel) ((List<Map<String, Object>>) ((Map<String, Object>) models.get("Pet")).get("models")).get(0).get("model");
+        for (CodegenProperty property : pet.vars) {
+            if ("tags".equals(property.baseName)) {
+                Assert.assertEquals(property.vendorExtensions.get("x-validator-model"), "Tag");
+                Assert.assertEquals(property.vendorExtensions.get("x-validator-method"), "validateTags");
+            }
+        }
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.java.undertow;
+
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.languages.JavaUndertowServerCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JavaUndertowServerCodegenTest {
+
+    private static String generateHandlers(Map<String, Object> properties) throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java-undertow-server")
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/3_0/undertow-handlers.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        String handlers = generator.getFiles().get(new File(output, "src/main/java/org/openapitools/handler/PathHandlerProvider.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertNotNull(handlers);
+        return handlers;
+    }
+
+    @Test
+    public void testHandlers() throws Exception {
+        String handlers = generateHandlers(new HashMap<String, Object>());
+
+        // only the JSON bodies are parsed by the handler
+        Assert.assertTrue(handlers.contains(".add(Methods.POST, \"/v1/pets\", new OperationHandler<Pet>(new TypeReference<Pet>() {}, false, 1024) {\n"
+                + "                        protected void handle(HttpServerExchange exchange, Pet body) throws Exception {\n"));
+        Assert.assertTrue(handlers.contains(".add(Methods.POST, \"/v1/notes\", new OperationHandler<Void>(null, false, 1024) {"));
+        Assert.assertTrue(handlers.contains(".add(Methods.PUT, \"/v1/pets/{id}/photo\", new OperationHandler<Void>(null, true, 1024) {"));
+        // the response buffer size of an operation, unless invalid (not a number or negative)
+        Assert.assertTrue(handlers.contains(".add(Methods.GET, \"/v1/pets\", new OperationHandler<Void>(null, false, 65536) {"));
+        Assert.assertFalse(handlers.contains("-1) {"));
+    }
+
+    @Test
+    public void testBlockingAndResponseBufferSize() throws Exception {
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(JavaUndertowServerCodegen.BLOCKING, true);
+        properties.put(JavaUndertowServerCodegen.RESPONSE_BUFFER_SIZE, 4096);
+        String handlers = generateHandlers(properties);
+
+        // all the operations are blocking, and the buffer size of the operations is kept
+        Assert.assertTrue(handlers.contains(".add(Methods.POST, \"/v1/pets\", new OperationHandler<Pet>(new TypeReference<Pet>() {}, true, 4096) {"));
+        Assert.assertTrue(handlers.contains(".add(Methods.POST, \"/v1/notes\", new OperationHandler<Void>(null, true, 4096) {"));
+        Assert.assertTrue(handlers.contains(".add(Methods.PUT, \"/v1/pets/{id}/photo\", new OperationHandler<Void>(null, true, 4096) {"));
+        Assert.assertTrue(handlers.contains(".add(Methods.GET, \"/v1/pets\", new OperationHandler<Void>(null, true, 65536) {"));
+    }
+
+    @Test
+    public void testOptions() throws Exception {
+        final JavaUndertowServerCodegen codegen = new JavaUndertowServerCodegen();
+        codegen.processOpts();
+        Assert.assertEquals(codegen.additionalProperties().get(JavaUndertowServerCodegen.BLOCKING), Boolean.FALSE);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaUndertowServerCodegen.RESPONSE_BUFFER_SIZE), 1024);
+
+        final JavaUndertowServerCodegen blocking = new JavaUndertowServerCodegen();
+        blocking.additionalProperties().put(JavaUndertowServerCodegen.BLOCKING, "true");
+        blocking.additionalProperties().put(JavaUndertowServerCodegen.RESPONSE_BUFFER_SIZE, "8192");
+        blocking.processOpts();
+        Assert.assertEquals(blocking.additionalProperties().get(JavaUndertowServerCodegen.BLOCKING), Boolean.TRUE);
+        Assert.assertEquals(blocking.additionalProperties().get(JavaUndertowServerCodegen.RESPONSE_BUFFER_SIZE), 8192);
+    }
+}
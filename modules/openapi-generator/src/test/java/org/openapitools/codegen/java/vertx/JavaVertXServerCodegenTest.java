@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.java.vertx;
+
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
+public class JavaVertXServerCodegenTest {
+
+    @Test
+    public void testMessagesAndCodecs() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java-vertx")
+                .setInputSpec("src/test/resources/2_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        Map<String, String> generatedFiles = generator.getFiles();
+
+        String messages = generatedFiles.get(new File(output, "src/main/java/org/openapitools/server/api/verticle/StoreApiMessages.java").getAbsolutePath().replace("\\", "/"));
+        // the messages do not use the exceptions of the API
+        Assert.assertTrue(messages.contains("import org.openapitools.server.api.model.Order;\n"));
+        Assert.assertFalse(messages.contains("MainApiException"));
+        // a codec for each request, and for each response of an operation returning a value
+        Assert.assertTrue(messages.contains("    public static void registerCodecs(EventBus eventBus) {\n"
+                + "        LocalMessageCodec.register(eventBus, DeleteOrderRequest.class);\n"
+                + "        LocalMessageCodec.register(eventBus, GetInventoryRequest.class);\n"
+                + "        LocalMessageCodec.register(eventBus, GetInventoryResponse.class);\n"
+                + "        LocalMessageCodec.register(eventBus, GetOrderByIdRequest.class);\n"
+                + "        LocalMessageCodec.register(eventBus, GetOrderByIdResponse.class);\n"
+                + "        LocalMessageCodec.register(eventBus, PlaceOrderRequest.class);\n"
+                + "        LocalMessageCodec.register(eventBus, PlaceOrderResponse.class);\n"
+                + "    }\n"));
+        Assert.assertFalse(messages.contains("DeleteOrderResponse"));
+        Assert.assertTrue(messages.contains("        public DeleteOrderRequest(String orderId) {\n"
+                + "            this.orderId = orderId;\n"
+                + "        }\n"));
+        Assert.assertTrue(messages.contains("        public Map<String, Integer> getResult() {\n"));
+
+        // the request of getInventory has no properties
+        Assert.assertTrue(messages.contains("    public static class GetInventoryRequest {\n\n"
+                + "        public GetInventoryRequest() {\n"
+                + "        }\n"
+                + "    }\n"));
+
+        String verticle = generatedFiles.get(new File(output, "src/main/java/org/openapitools/server/api/verticle/StoreApiVerticle.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(verticle.contains("StoreApiMessages.registerCodecs(vertx.eventBus());"));
+        Assert.assertTrue(verticle.contains("message.reply(new StoreApiMessages.GetInventoryResponse(result.result()));"));
+
+        // so the codec must not fail on empty beans when encoding to the wire
+        String codec = generatedFiles.get(new File(output, "src/main/java/org/openapitools/server/api/LocalMessageCodec.java").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(codec.contains("private final ObjectWriter writer = Json.mapper.writer().without(SerializationFeature.FAIL_ON_EMPTY_BEANS);"));
+        Assert.assertTrue(codec.contains("bytes = writer.writeValueAsBytes(message);"));
+        Assert.assertFalse(codec.contains("Json.mapper.writeValueAsBytes"));
+        Assert.assertTrue(codec.contains("return Json.mapper.readValue(buffer.getBytes(pos, pos + length), type);"));
+    }
+}
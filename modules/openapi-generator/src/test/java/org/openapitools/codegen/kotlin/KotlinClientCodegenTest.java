@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.kotlin;
+
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.languages.KotlinClientCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class KotlinClientCodegenTest {
+
+    @Test
+    public void testUseCoroutines() throws Exception {
+        Map<String, String> generatedFiles = generate(true);
+
+        String petApi = generatedFiles.get("src/main/kotlin/org/openapitools/client/apis/PetApi.kt");
+        Assert.assertTrue(petApi.contains("suspend fun getPetById(petId: kotlin.Long) : Pet {"));
+
+        String apiClient = generatedFiles.get("src/main/kotlin/org/openapitools/client/infrastructure/ApiClient.kt");
+        Assert.assertTrue(apiClient.contains("protected suspend inline fun <reified T: Any?> request("));
+        Assert.assertTrue(apiClient.contains("suspend fun <T> Call.await(process: (Response) -> T): T = suspendCancellableCoroutine { continuation ->"));
+        // the response is processed on the thread of OkHttp, not on the one of the caller
+        Assert.assertTrue(apiClient.contains("client.newCall(prepareRequest(requestConfig, body)).await { response -> processResponse<T>(response) }"));
+        Assert.assertTrue(apiClient.contains("                response.use(process)\n"));
+        // the call is cancelled with the coroutine, and a response arriving afterwards is closed
+        Assert.assertTrue(apiClient.contains("    continuation.invokeOnCancellation { cancel() }\n"));
+        Assert.assertTrue(apiClient.contains("            if (!continuation.isActive) {\n"
+                + "                // cancelled while the response was arriving\n"
+                + "                response.close()\n"
+                + "                return\n"
+                + "            }\n"));
+        Assert.assertTrue(apiClient.contains("var urlBuilder = baseHttpUrl.newBuilder()"));
+
+        String buildGradle = generatedFiles.get("build.gradle");
+        Assert.assertTrue(buildGradle.contains("org.jetbrains.kotlinx:kotlinx-coroutines-core"));
+    }
+
+    @Test
+    public void testBlockingByDefault() throws Exception {
+        Map<String, String> generatedFiles = generate(false);
+
+        String petApi = generatedFiles.get("src/main/kotlin/org/openapitools/client/apis/PetApi.kt");
+        Assert.assertTrue(petApi.contains("    fun getPetById(petId: kotlin.Long) : Pet {"));
+        Assert.assertFalse(petApi.contains("suspend fun"));
+
+        String apiClient = generatedFiles.get("src/main/kotlin/org/openapitools/client/infrastructure/ApiClient.kt");
+        Assert.assertTrue(apiClient.contains("client.newCall(prepareRequest(requestConfig, body)).execute()"));
+        Assert.assertFalse(apiClient.contains("kotlinx.coroutines"));
+
+        String serializer = generatedFiles.get("src/main/kotlin/org/openapitools/client/infrastructure/Serializer.kt");
+        Assert.assertTrue(serializer.contains("adapters.getOrPut(type) { moshi.adapter(type) }"));
+    }
+
+    private Map<String, String> generate(boolean useCoroutines) throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        if (useCoroutines) {
+            properties.put(KotlinClientCodegen.USE_COROUTINES, true);
+        }
+
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+        String outputPath = output.getAbsolutePath().replace("\\", "/");
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("kotlin")
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/2_0/petstore.yaml")
+                .setOutputDir(outputPath);
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+
+        // key the generated files by their path relative to the output folder
+        Map<String, String> generatedFiles = new HashMap<>();
+        for (Map.Entry<String, String> file : generator.getFiles().entrySet()) {
+            generatedFiles.put(file.getKey().substring(outputPath.length() + 1), file.getValue());
+        }
+        return generatedFiles;
+    }
+}
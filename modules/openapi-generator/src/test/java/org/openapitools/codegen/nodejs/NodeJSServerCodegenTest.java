@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.nodejs;
+
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.languages.NodeJSServerCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class NodeJSServerCodegenTest {
+
+    private static Map<String, String> generate(File output, boolean compiledRoutes) throws Exception {
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(NodeJSServerCodegen.COMPILED_ROUTES, compiledRoutes);
+        return generate(output, properties);
+    }
+
+    private static Map<String, String> generate(File output, Map<String, Object> properties) throws Exception {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("nodejs-server")
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/3_0/nodejs-routes.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        return generator.getFiles();
+    }
+
+    @Test
+    public void testRouteOrder() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        String routes = generate(output, true).get(new File(output, "routes.js").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(routes.contains("  'POST /api/reports': {\n    hasBody: true,\n"));
+
+        // the static segments of a path come before the parameters
+        int latest = routes.indexOf("    pattern: /^\\/api\\/reports\\/latest\\/([^/]+)$/,\n");
+        int summary = routes.indexOf("    pattern: /^\\/api\\/reports\\/([^/]+)\\/summary$/,\n");
+        int month = routes.indexOf("    pattern: /^\\/api\\/reports\\/([^/]+)\\/([^/]+)$/,\n");
+        Assert.assertTrue(latest > 0);
+        Assert.assertTrue(latest < summary);
+        Assert.assertTrue(summary < month);
+    }
+
+    @Test
+    public void testValidators() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        String validator = generate(output, true).get(new File(output, "validators/ReportValidator.js").getAbsolutePath().replace("\\", "/"));
+
+        // the patterns, allowed values and required properties are created once
+        Assert.assertTrue(validator.contains("var GET_MONTH_REPORT_MONTH_PATTERN = new RegExp('^[0-9]{2}$');\n"));
+        Assert.assertTrue(validator.contains("var GET_YEAR_SUMMARY_FORMAT_VALUES = ['json', 'csv'];\n"));
+        Assert.assertTrue(validator.contains("var ADD_REPORT_REPORT_REQUIRED = ['title', 'year'];\n"));
+
+        Assert.assertTrue(validator.contains("  value = router.parameter('year', request.path[1], router.integer, true);\n"
+                + "  if (value !== undefined) {\n"
+                + "    if (value < 2000) {\n"));
+        Assert.assertTrue(validator.contains("  value = router.parameter('month', request.path[2], router.string, true);\n"
+                + "  if (value !== undefined) {\n"
+                + "    if (!GET_MONTH_REPORT_MONTH_PATTERN.test(value)) {\n"));
+        Assert.assertTrue(validator.contains("    if (GET_YEAR_SUMMARY_FORMAT_VALUES.indexOf(value) < 0) {\n"));
+
+        // the body is checked to be an object having the required properties
+        Assert.assertTrue(validator.contains("  value = router.parameter('Report', router.json(request.body), router.object, true);\n"
+                + "  router.requireProperties('Report', value, ADD_REPORT_REPORT_REQUIRED);\n"));
+    }
+
+    @Test
+    public void testWithoutCompiledRoutes() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, String> files = generate(output, false);
+        Assert.assertNull(files.get(new File(output, "routes.js").getAbsolutePath().replace("\\", "/")));
+        Assert.assertNull(files.get(new File(output, "validators/ReportValidator.js").getAbsolutePath().replace("\\", "/")));
+    }
+
+    @Test
+    public void testMaxBodySize() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        String router = generate(output, true).get(new File(output, "utils/router.js").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(router.contains("var MAX_BODY_SIZE = 1048576;\n"));
+        // a larger body is answered with a 413 and the request destroyed
+        Assert.assertTrue(router.contains("  if (parseInt(req.headers['content-length'], 10) > MAX_BODY_SIZE) {\n"));
+        Assert.assertTrue(router.contains("    if (length > MAX_BODY_SIZE) {\n      tooLarge();\n"));
+        Assert.assertTrue(router.contains("    res.on('finish', function() {\n      req.destroy();\n    });\n"));
+        Assert.assertTrue(router.contains("    err.status = 413;\n"));
+        Assert.assertTrue(router.contains("        utils.writeJson(res, {message: err.message}, err.status || 400);\n"));
+
+        output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(NodeJSServerCodegen.COMPILED_ROUTES, true);
+        properties.put(NodeJSServerCodegen.MAX_BODY_SIZE, "65536");
+        router = generate(output, properties).get(new File(output, "utils/router.js").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(router.contains("var MAX_BODY_SIZE = 65536;\n"));
+
+        // an invalid size is ignored
+        output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        properties.put(NodeJSServerCodegen.MAX_BODY_SIZE, "-1");
+        router = generate(output, properties).get(new File(output, "utils/router.js").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(router.contains("var MAX_BODY_SIZE = 1048576;\n"));
+    }
+}
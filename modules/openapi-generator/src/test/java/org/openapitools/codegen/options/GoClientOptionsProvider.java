@@ -30,6 +30,7 @@ public class GoClientOptionsProvider implements OptionsProvider {
     public static final String PACKAGE_NAME_VALUE = "Go";
     public static final boolean WITH_GO_CODEGEN_COMMENT_VALUE = true;
     public static final boolean WITH_XML_VALUE = true;
+    public static final boolean WITH_MAX_CONNS_PER_HOST_VALUE = true;
     public static final Boolean PREPEND_FORM_OR_BODY_PARAMETERS_VALUE = true;
 
     @Override
@@ -46,6 +47,7 @@ public class GoClientOptionsProvider implements OptionsProvider {
                 .put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, "true")
                 .put(CodegenConstants.WITH_GO_CODEGEN_COMMENT, "true")
                 .put(CodegenConstants.WITH_XML, "true")
+                .put(GoClientCodegen.WITH_MAX_CONNS_PER_HOST, "true")
                 .put(CodegenConstants.PREPEND_FORM_OR_BODY_PARAMETERS, "true")
                 .build();
     }
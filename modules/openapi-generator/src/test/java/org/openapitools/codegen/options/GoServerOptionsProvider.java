@@ -18,6 +18,7 @@
 package org.openapitools.codegen.options;
 
 import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.languages.GoServerCodegen;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -28,6 +29,7 @@ public class GoServerOptionsProvider implements OptionsProvider {
     public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
     public static final String ALLOW_UNICODE_IDENTIFIERS_VALUE = "false";
     public static final String PREPEND_FORM_OR_BODY_PARAMETERS_VALUE = "true";
+    public static final String STATIC_ROUTER_VALUE = "true";
 
     @Override
     public String getLanguage() {
@@ -41,6 +43,7 @@ public class GoServerOptionsProvider implements OptionsProvider {
                 .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
                 .put(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS, ALLOW_UNICODE_IDENTIFIERS_VALUE)
                 .put(CodegenConstants.PREPEND_FORM_OR_BODY_PARAMETERS, "true")
+                .put(GoServerCodegen.STATIC_ROUTER, STATIC_ROUTER_VALUE)
                 .build();
     }
 
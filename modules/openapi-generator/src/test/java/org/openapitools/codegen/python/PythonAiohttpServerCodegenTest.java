@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.python;
+
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.languages.PythonAiohttpServerCodegen;
+import org.openapitools.codegen.languages.PythonFlaskConnexionServerCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class PythonAiohttpServerCodegenTest {
+
+    private static Map<String, String> generate(String spec, File output) {
+        return TestUtils.generate("python-aiohttp", spec, new HashMap<String, Object>(), output).getFiles();
+    }
+
+    @Test
+    public void testRoutes() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, String> files = generate("src/test/resources/2_0/petstore.yaml", output);
+        TestUtils.ensureDoesNotContainFile(files, output, "openapi_server/openapi/openapi.yaml");
+
+        String routes = TestUtils.getGeneratedFile(files, output, "openapi_server/routes.py");
+        Assert.assertTrue(routes.contains("from openapi_server.controllers import pet_controller\n"));
+        Assert.assertTrue(routes.contains("    ('GET', '/v2/pet/{petId}', validators.get_pet_by_id, pet_controller.get_pet_by_id),\n"));
+        Assert.assertTrue(routes.contains("app.router.add_route(method, path, handler(validator, controller))"));
+        // static segments are matched before the parameters
+        Assert.assertTrue(routes.indexOf("'/v2/pet/findByStatus'") < routes.indexOf("'/v2/pet/{petId}'"));
+        Assert.assertTrue(routes.indexOf("'/v2/user/login'") < routes.indexOf("'/v2/user/{username}'"));
+
+        String controller = TestUtils.getGeneratedFile(files, output, "openapi_server/controllers/pet_controller.py");
+        Assert.assertTrue(controller.contains("async def delete_pet(pet_id, api_key=None):"));
+        Assert.assertFalse(controller.contains("connexion"));
+
+        String main = TestUtils.getGeneratedFile(files, output, "openapi_server/__main__.py");
+        Assert.assertTrue(main.contains("web.run_app(create_app(), port=8080)"));
+    }
+
+    @Test
+    public void testValidators() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        Map<String, String> files = generate("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml", output);
+        String validators = TestUtils.getGeneratedFile(files, output, "openapi_server/validators.py");
+
+        Assert.assertTrue(validators.contains("from openapi_server.models.pet import Pet  # noqa: E501\n"));
+        Assert.assertTrue(validators.contains("_TEST_ENDPOINT_PARAMETERS_STRING_PATTERN = re.compile(r'[a-z]', re.IGNORECASE)"));
+        Assert.assertTrue(validators.contains("_FIND_PETS_BY_STATUS_STATUS_VALUES = frozenset(['available', 'pending', 'sold'])"));
+        Assert.assertTrue(validators.contains("    Pet: ['name', 'photo_urls'],\n"));
+
+        Assert.assertTrue(validators.contains("async def get_pet_by_id(request):"));
+        Assert.assertTrue(validators.contains("    value = _parameter('petId', request.match_info.get('petId'), int, True)"));
+        Assert.assertTrue(validators.contains("    value = _parameters('status', _split(request.query.get('status'), ','), str, True)"));
+        Assert.assertTrue(validators.contains("    value = _parameter('body', await _json(request), Pet.from_dict, True)"));
+        Assert.assertTrue(validators.contains("    value = _parameter('int32', form.get('int32'), int, False)  # noqa: E501\n"
+                + "    if value is not None:\n"
+                + "        if value > 200:\n"));
+        Assert.assertTrue(validators.contains("    parameters['int32'] = value\n"));
+        // operation ids starting with a number are renamed
+        Assert.assertTrue(validators.contains("async def call123_test_special_tags(request):"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testSupportPython2NotSupported() throws Exception {
+        final PythonAiohttpServerCodegen codegen = new PythonAiohttpServerCodegen();
+        codegen.additionalProperties().put(PythonFlaskConnexionServerCodegen.SUPPORT_PYTHON2, true);
+        codegen.processOpts();
+    }
+}
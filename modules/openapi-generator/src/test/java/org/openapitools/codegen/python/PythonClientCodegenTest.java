@@ -21,8 +21,14 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.languages.PythonClientCodegen;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
 public class PythonClientCodegenTest {
 
     @Test
@@ -54,4 +60,28 @@ public class PythonClientCodegenTest {
         Assert.assertEquals(codegen.isHideGenerationTimestamp(), false);
     }
 
+    @Test
+    public void testPrecompiledDeserializers() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("python")
+                .setInputSpec("src/test/resources/2_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        Map<String, String> generatedFiles = generator.getFiles();
+
+        String pet = generatedFiles.get(new File(output, "openapi_client/models/pet.py").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(pet.contains("def from_dict(cls, data, deserializers):"));
+        Assert.assertTrue(pet.contains("kwargs['photo_urls'] = deserializers['photo_urls'](data['photoUrls'])"));
+
+        String apiClient = generatedFiles.get(new File(output, "openapi_client/api_client.py").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(apiClient.contains("from orjson import loads as json_loads"));
+        Assert.assertTrue(apiClient.contains("instance = from_dict(data, attr_deserializers)"));
+        // the deserializers are only shared once all of them are resolved
+        Assert.assertTrue(apiClient.contains("                resolved.append(attr_deserializers)\n"));
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.python;
+
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
+public class PythonFlaskConnexionServerCodegenTest {
+
+    @Test
+    public void testModelImports() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("python-flask")
+                .setInputSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        Map<String, String> files = generator.getFiles();
+
+        // the referenced models are imported
+        String pet = files.get(new File(output, "openapi_server/models/pet.py").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(pet.contains("from openapi_server.models.base_model_ import Model\n"
+                + "from openapi_server.models.category import Category  # noqa: E501\n"
+                + "from openapi_server.models.tag import Tag  # noqa: E501\n"
+                + "from openapi_server import util\n"));
+
+        // the File model, not the java.io.File class of the default import mappings
+        String fileSchema = files.get(new File(output, "openapi_server/models/file_schema_test_class.py").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(fileSchema.contains("from openapi_server.models.file import File  # noqa: E501\n"));
+        Assert.assertFalse(fileSchema.contains("java.io.File"));
+
+        // the byte arrays are strings, not models
+        String formatTest = files.get(new File(output, "openapi_server/models/format_test.py").getAbsolutePath().replace("\\", "/"));
+        Assert.assertTrue(formatTest.contains("            'byte': str,\n"));
+        Assert.assertTrue(formatTest.contains("from openapi_server.models.base_model_ import Model\n"
+                + "import re  # noqa: E501\n"
+                + "from openapi_server import util\n"));
+        Assert.assertFalse(formatTest.contains("byte_array"));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.rust;
+
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.TestUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RustServerCodegenTest {
+
+    private static final String SAMPLES = "../../samples/server/petstore/rust-server/output/";
+
+    private static String generateServer(String spec) throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        // the options of bin/rust-server-petstore.sh
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(CodegenConstants.PACKAGE_NAME, new File(spec).getName().replace(".yaml", ""));
+        properties.put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        MockDefaultGenerator generator = TestUtils.generate("rust-server", spec, properties, output);
+        return TestUtils.getGeneratedFile(generator.getFiles(), output, "src/server/mod.rs");
+    }
+
+    @DataProvider(name = "samples")
+    public Object[][] samples() {
+        return new Object[][]{{"petstore-with-fake-endpoints-models-for-testing"}, {"rust-server-test"}};
+    }
+
+    @Test(dataProvider = "samples")
+    public void testSameServerAsSample(String sample) throws Exception {
+        String server = generateServer("src/test/resources/2_0/rust-server/" + sample + ".yaml");
+        String expected = new String(Files.readAllBytes(new File(SAMPLES + sample + "/src/server/mod.rs").toPath()), StandardCharsets.UTF_8);
+        Assert.assertEquals(server, expected, "regenerate the sample with bin/rust-server-petstore.sh");
+    }
+
+    @Test
+    public void testDispatch() throws Exception {
+        String server = generateServer("src/test/resources/2_0/rust-server/petstore-with-fake-endpoints-models-for-testing.yaml");
+
+        // all the paths are matched by the tree, without regular expressions
+        Assert.assertFalse(server.contains("regex"));
+        Assert.assertFalse(server.contains("fn match_regex"));
+        Assert.assertTrue(server.contains("let path = paths::match_path(uri.path());"));
+        Assert.assertTrue(server.contains("let path = paths::match_path(request.uri().path());"));
+        Assert.assertTrue(server.contains("    const BASE_PATH: &'static str = \"/v2\";\n    const MAX_PARAMS: usize = 1;\n"));
+
+        // the static segments come before the parameter
+        Assert.assertTrue(server.contains("        Node { segment: Some(\"pet\"), id: Some(10), children: &[13, 14, 15] }, // /pet\n"
+                + "        Node { segment: Some(\"findByStatus\"), id: Some(11), children: &[] }, // /pet/findByStatus\n"
+                + "        Node { segment: Some(\"findByTags\"), id: Some(12), children: &[] }, // /pet/findByTags\n"
+                + "        Node { segment: None, id: Some(13), children: &[16] }, // /pet/{petId}\n"
+                + "        Node { segment: Some(\"uploadImage\"), id: Some(14), children: &[] }, // /pet/{petId}/uploadImage\n"));
+        Assert.assertTrue(server.contains("percent_encoding::percent_decode(path.param(0).as_bytes())"));
+        Assert.assertFalse(server.contains("path_params"));
+    }
+
+    @Test
+    public void testRegexFallback() throws Exception {
+        String server = generateServer("src/test/resources/3_0/rust-server-paths.yaml");
+
+        Assert.assertTrue(server.contains("    const BASE_PATH: &'static str = \"/api\";\n    const MAX_PARAMS: usize = 2;\n"));
+        // a segment mixing parameters is matched by a regular expression
+        Assert.assertTrue(server.contains("        pub static ref REGEX_REPORTS_REPORTID_FORMAT: regex::Regex = regex::Regex::new(r\"^/api/reports/(?P<reportId>[^/?#]*).(?P<format>[^/?#]*)$\").unwrap();\n"));
+        Assert.assertTrue(server.contains("        if let Some(captures) = REGEX_REPORTS_REPORTID_FORMAT.captures(path) {\n"
+                + "            params[0] = captures.name(\"reportId\").map_or(\"\", |m| m.as_str());\n"
+                + "            params[1] = captures.name(\"format\").map_or(\"\", |m| m.as_str());\n"
+                + "            return Some(ID_REPORTS_REPORTID_FORMAT);\n"));
+        // the others by the tree
+        Assert.assertFalse(server.contains("REGEX_REPORTS_REPORTID_RAW"));
+        Assert.assertFalse(server.contains("REGEX_REPORTS_YEAR_MONTH_SUMMARY"));
+        Assert.assertTrue(server.contains("        Node { segment: Some(\"summary\"), id: Some(2), children: &[] }, // /reports/{year}/{month}/summary\n"));
+
+        // the path parameters are found by their position in the path, not in the parameters
+        Assert.assertTrue(server.contains("let param_month = match percent_encoding::percent_decode(path.param(1).as_bytes())"));
+        Assert.assertTrue(server.contains("let param_year = match percent_encoding::percent_decode(path.param(0).as_bytes())"));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.MockDefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+public class PrecompiledMustacheEngineAdapterTest {
+
+    @Test
+    public void testLoadByIdentifier() {
+        Assert.assertTrue(TemplatingEngineLoader.byIdentifier("mustache") instanceof MustacheEngineAdapter);
+        Assert.assertTrue(TemplatingEngineLoader.byIdentifier("mustache-precompiled") instanceof PrecompiledMustacheEngineAdapter);
+        Assert.assertTrue(TemplatingEngineLoader.byIdentifier(PrecompiledMustacheEngineAdapter.class.getName()) instanceof PrecompiledMustacheEngineAdapter);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownIdentifier() {
+        TemplatingEngineLoader.byIdentifier("no-such-engine");
+    }
+
+    @Test
+    public void testSelectedThroughAdditionalProperties() {
+        final ClientOptInput input = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .addAdditionalProperty(CodegenConstants.TEMPLATING_ENGINE, PrecompiledMustacheEngineAdapter.IDENTIFIER)
+                .toClientOptInput();
+        Assert.assertTrue(input.getConfig().getTemplatingEngine() instanceof MustacheEngineAdapter);
+
+        input.getConfig().processOpts();
+        Assert.assertTrue(input.getConfig().getTemplatingEngine() instanceof PrecompiledMustacheEngineAdapter);
+    }
+
+    @DataProvider(name = "generators")
+    public Object[][] generators() {
+        return new Object[][]{
+                {"java", "okhttp-gson"},
+                {"java", "jersey2"},
+                {"spring", null},
+                {"python", null},
+                {"go", null},
+                {"typescript-angular", null},
+                {"html2", null}
+        };
+    }
+
+    @Test(dataProvider = "generators", description = "the precompiled engine renders the petstore exactly like the default engine")
+    public void testSameOutputAsMustache(String generatorName, String library) {
+        Map<String, String> expected = generate(generatorName, library, MustacheEngineAdapter.IDENTIFIER);
+        Map<String, String> actual = generate(generatorName, library, PrecompiledMustacheEngineAdapter.IDENTIFIER);
+
+        Assert.assertEquals(actual.keySet(), expected.keySet());
+        for (Map.Entry<String, String> entry : expected.entrySet()) {
+            Assert.assertEquals(actual.get(entry.getKey()), entry.getValue(), entry.getKey());
+        }
+    }
+
+    @DataProvider(name = "engines")
+    public Object[][] engines() {
+        return new Object[][]{
+                {MustacheEngineAdapter.IDENTIFIER},
+                {PrecompiledMustacheEngineAdapter.IDENTIFIER}
+        };
+    }
+
+    @Test(dataProvider = "engines", description = "both engines render the petstore like the checked-in typescript-node sample")
+    public void testSameOutputAsSample(String engine) throws Exception {
+        Map<String, String> files = generate("typescript-node", null, engine);
+        for (String path : new String[]{"api/petApi.ts", "api/apis.ts", "model/pet.ts", "model/order.ts"}) {
+            String expected = new String(Files.readAllBytes(new File("../../samples/client/petstore/typescript-node/default", path).toPath()), StandardCharsets.UTF_8);
+            Assert.assertEquals(files.get(new File("target/templating-test/typescript-node", path).getAbsolutePath()), expected, path);
+        }
+    }
+
+    private static Map<String, String> generate(String generatorName, String library, String engine) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName(generatorName)
+                .setLibrary(library)
+                .setTemplatingEngineName(engine)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir("target/templating-test/" + generatorName)
+                .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        MockDefaultGenerator generator = new MockDefaultGenerator();
+        generator.opts(configurator.toClientOptInput()).generate();
+        // generation date in README etc.
+        generator.getFiles().replaceAll((name, contents) -> contents.replaceAll("\\d{4}-\\d{2}-\\d{2}T[0-9:.+\\-\\[\\]A-Za-z/_]+", "DATE"));
+        return generator.getFiles();
+    }
+}
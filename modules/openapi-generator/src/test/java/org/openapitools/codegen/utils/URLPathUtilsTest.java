@@ -26,7 +26,10 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 public class URLPathUtilsTest {
 
@@ -114,4 +117,13 @@ public class URLPathUtilsTest {
                         .addServerVariable("user", new ServerVariable()._default("{user}")));
         Assert.assertEquals(URLPathUtils.getServerURL(s9).toString(), "https://{user}.example.com/v1");
     }
+
+    @Test
+    public void testComparePaths() {
+        List<String> paths = new ArrayList<String>(Arrays.asList("/user/{username}", "/user/logout", "/user", "/user/login", "/pet/{petId}/uploadImage", "/pet/{petId}", "/pet/findByStatus"));
+        Collections.sort(paths, URLPathUtils::comparePaths);
+        Assert.assertEquals(paths, Arrays.asList("/pet/findByStatus", "/pet/{petId}", "/pet/{petId}/uploadImage", "/user", "/user/login", "/user/logout", "/user/{username}"));
+
+        Assert.assertEquals(URLPathUtils.comparePaths("/store/order", "/store/order"), 0);
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class WriteBehindFileWriterTest {
+
+    @Test
+    public void testWritesAllFiles() throws Exception {
+        File dir = Files.createTempDirectory("write-behind").toFile();
+        try (WriteBehindFileWriter writer = new WriteBehindFileWriter(3, 2)) {
+            for (int i = 0; i < 50; i++) {
+                final int n = i;
+                writer.write(new File(dir, "file" + i + ".txt"), out -> out.write("content é " + n));
+            }
+            writer.flush();
+            for (int i = 0; i < 50; i++) {
+                Assert.assertEquals(read(new File(dir, "file" + i + ".txt")), "content é " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testLastWriteToSameFileWins() throws Exception {
+        File dir = Files.createTempDirectory("write-behind").toFile();
+        File output = new File(dir, "same.txt");
+        try (WriteBehindFileWriter writer = new WriteBehindFileWriter(4, 8)) {
+            for (int i = 0; i < 20; i++) {
+                final int n = i;
+                writer.write(output, out -> out.write("version " + n));
+            }
+        }
+        Assert.assertEquals(read(output), "version 19");
+    }
+
+    @Test
+    public void testScheduledFilesExist() throws Exception {
+        File dir = Files.createTempDirectory("write-behind").toFile();
+        try (WriteBehindFileWriter writer = new WriteBehindFileWriter(2, 64)) {
+            for (int i = 0; i < 50; i++) {
+                File output = new File(dir, "file" + i + ".txt");
+                Assert.assertFalse(WriteBehindFileWriter.exists(output));
+                writer.write(output, out -> out.write("content"));
+                // whether it has already been written or not
+                Assert.assertTrue(WriteBehindFileWriter.exists(output), output.getPath());
+            }
+        }
+        Assert.assertTrue(WriteBehindFileWriter.exists(new File(dir, "file0.txt")));
+    }
+
+    @Test
+    public void testFailedFilesDoNotExist() throws Exception {
+        File dir = Files.createTempDirectory("write-behind").toFile();
+        File output = new File(new File(dir, "missing"), "file.txt");
+        try (WriteBehindFileWriter writer = new WriteBehindFileWriter(1, 1)) {
+            writer.write(output, out -> out.write("content"));
+        } catch (IOException e) {
+            Assert.assertFalse(WriteBehindFileWriter.exists(output));
+            return;
+        }
+        Assert.fail("the write should have failed");
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testFailsOnWriteError() throws Exception {
+        File dir = Files.createTempDirectory("write-behind").toFile();
+        // parent directory does not exist
+        File output = new File(new File(dir, "missing"), "file.txt");
+        try (WriteBehindFileWriter writer = new WriteBehindFileWriter(1, 1)) {
+            writer.write(output, out -> out.write("content"));
+        }
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
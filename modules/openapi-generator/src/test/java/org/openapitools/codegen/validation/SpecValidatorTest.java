@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+public class SpecValidatorTest {
+
+    private static OpenAPI readUnusedSchemas() {
+        return new OpenAPIParser().readLocation("src/test/resources/3_0/unusedSchemas.yaml", null, new ParseOptions()).getOpenAPI();
+    }
+
+    private static Set<String> messages(ValidationReport report, String ruleId) {
+        return report.getIssues().stream()
+                .filter(i -> ruleId.equals(i.getRuleId()))
+                .map(ValidationIssue::getMessage)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Operation operation(String operationId, Schema schema) {
+        return new Operation().operationId(operationId).responses(new ApiResponses().addApiResponse("200",
+                new ApiResponse().description("ok").content(new Content().addMediaType("application/json", new MediaType().schema(schema)))));
+    }
+
+    @Test
+    public void testUnusedSchemasMatchModelUtils() {
+        OpenAPI openAPI = readUnusedSchemas();
+        Set<String> expected = ModelUtils.getUnusedSchemas(openAPI).stream()
+                .map(name -> "Unused model: " + name)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        ValidationReport report = new SpecValidator().validate(openAPI);
+
+        Assert.assertEquals(messages(report, UnusedSchemaRule.ID), expected);
+        Assert.assertEquals(report.getScannedElementCount(), report.getElementCount());
+    }
+
+    @Test
+    public void testRules() {
+        OpenAPI openAPI = new OpenAPI();
+        openAPI.path("/pets", new PathItem()
+                .get(operation("listPets", new Schema().$ref("#/components/schemas/Pet")))
+                .post(operation("list_pets", new Schema().$ref("#/components/schemas/Missing"))));
+        openAPI.path("/pets/{id}", new PathItem().get(operation("listPets", new Schema().$ref("#/components/schemas/pet"))));
+        ObjectSchema inline = new ObjectSchema();
+        for (int i = 0; i < 3; i++) {
+            inline.addProperties("p" + i, new ObjectSchema().addProperties("name", new StringSchema()));
+        }
+        openAPI.path("/inline", new PathItem().get(operation("inline", inline)));
+        openAPI.schema("Pet", new ObjectSchema().addProperties("name", new StringSchema()));
+        openAPI.schema("pet", new ObjectSchema());
+
+        SpecValidator validator = new SpecValidator(SpecValidator.defaultRules().stream()
+                .map(r -> r instanceof InlineSchemaRule ? new InlineSchemaRule(2) : r)
+                .collect(Collectors.toList()), 2);
+        ValidationReport report = validator.validate(openAPI);
+
+        Assert.assertEquals(messages(report, UnusedSchemaRule.ID), Collections.emptySet());
+        Assert.assertEquals(messages(report, DuplicateOperationIdRule.ID),
+                Collections.singleton("Duplicate operationId 'listPets' of GET /pets/{id} (also used by GET /pets)"));
+        Assert.assertEquals(messages(report, UnresolvedReferenceRule.ID),
+                Collections.singleton("Unresolved reference: #/components/schemas/Missing"));
+        Assert.assertEquals(messages(report, InlineSchemaRule.ID),
+                Collections.singleton("/inline defines 4 inline object schemas, consider moving them to #/components/schemas"));
+        Assert.assertEquals(messages(report, NameCollisionRule.ID), new TreeSet<>(Arrays.asList(
+                "Model name 'pet' collides with 'Pet' (generated as Pet)",
+                "OperationId 'list_pets' collides with 'listPets' (generated as listPets)")));
+
+        List<ValidationIssue> errors = report.getIssues(ValidationIssue.Severity.ERROR);
+        Assert.assertEquals(errors.size(), 1);
+        Assert.assertEquals(errors.get(0).getLocation(), "#/paths/~1pets");
+    }
+
+    @Test
+    public void testIncrementalValidation() throws Exception {
+        SpecValidator validator = new SpecValidator();
+        ValidationReport first = validator.validateIncrementally(readUnusedSchemas(), null);
+        Assert.assertEquals(first.getScannedElementCount(), first.getElementCount());
+
+        StringWriter saved = new StringWriter();
+        first.getIndex().write(saved);
+        SpecIndex previous = SpecIndex.read(new StringReader(saved.toString()));
+
+        ValidationReport unchanged = validator.validateIncrementally(readUnusedSchemas(), previous);
+        Assert.assertEquals(unchanged.getScannedElementCount(), 0);
+        Assert.assertEquals(unchanged.getIssues(), first.getIssues());
+
+        // using UnusedObj1 from a new path makes it used
+        OpenAPI changed = readUnusedSchemas();
+        changed.path("/new", new PathItem().get(operation("newOperation", new Schema().$ref("#/components/schemas/UnusedObj1"))));
+        ValidationReport incremental = validator.validateIncrementally(changed, previous);
+        Assert.assertEquals(incremental.getScannedElementCount(), 1);
+        Assert.assertEquals(incremental.getIssues(), validator.validate(changed).getIssues());
+        Assert.assertFalse(messages(incremental, UnusedSchemaRule.ID).contains("Unused model: UnusedObj1"));
+    }
+}
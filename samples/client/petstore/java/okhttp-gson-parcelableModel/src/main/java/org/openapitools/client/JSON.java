@@ -15,6 +15,7 @@ package org.openapitools.client;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.internal.bind.util.ISO8601Utils;
@@ -31,7 +32,9 @@ import org.openapitools.client.model.*;
 import okio.ByteString;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -129,6 +132,24 @@ public class JSON {
         return gson.toJson(obj);
     }
 
+    /**
+     * Serialize the given Java object as JSON into the given writer.
+     *
+     * @param obj    Object
+     * @param writer Destination of the JSON, not closed by this method
+     * @throws IOException If fail to write the JSON
+     */
+    public void serialize(Object obj, Writer writer) throws IOException {
+        try {
+            gson.toJson(obj, writer);
+        } catch (JsonIOException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     /**
      * Deserialize the given JSON string to Java object.
      *
@@ -159,6 +180,24 @@ public class JSON {
         }
     }
 
+    /**
+     * Deserialize JSON read from the given reader to Java object, without reading the whole JSON into memory.
+     *
+     * @param <T>        Type
+     * @param body       The JSON reader, not closed by this method
+     * @param returnType The type to deserialize into
+     * @return The deserialized Java object, or null if the reader is empty
+     */
+    public <T> T deserialize(Reader body, Type returnType) {
+        if (isLenientOnJson) {
+            JsonReader jsonReader = new JsonReader(body);
+            jsonReader.setLenient(true);
+            return gson.fromJson(jsonReader, returnType);
+        } else {
+            return gson.fromJson(body, returnType);
+        }
+    }
+
     /**
      * Gson TypeAdapter for Byte Array type
      */
@@ -17,6 +17,7 @@ import com.squareup.okhttp.*;
 import com.squareup.okhttp.internal.http.HttpMethod;
 import com.squareup.okhttp.logging.HttpLoggingInterceptor;
 import com.squareup.okhttp.logging.HttpLoggingInterceptor.Level;
+import com.google.gson.JsonParseException;
 import okio.BufferedSink;
 import okio.Okio;
 import org.threeten.bp.LocalDate;
@@ -30,10 +31,14 @@ import javax.net.ssl.*;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.net.URLConnection;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.SecureRandom;
@@ -78,6 +83,8 @@ public class ApiClient {
 
     private HttpLoggingInterceptor loggingInterceptor;
 
+    private boolean streamingRequestBodies = false;
+
     /*
      * Basic constructor for ApiClient
      */
@@ -289,6 +296,28 @@ public class ApiClient {
         return this;
     }
 
+    /**
+     * Check whether JSON request bodies are streamed.
+     *
+     * @return True if JSON request bodies are written directly into the request
+     */
+    public boolean isStreamingRequestBodies() {
+        return streamingRequestBodies;
+    }
+
+    /**
+     * Enable or disable streaming of JSON request bodies (disabled by default).
+     * Streamed bodies have no known length and are sent with chunked transfer encoding;
+     * only enable streaming for servers and proxies accepting chunked request bodies.
+     *
+     * @param streamingRequestBodies True to write JSON request bodies directly into the request
+     * @return ApiClient
+     */
+    public ApiClient setStreamingRequestBodies(boolean streamingRequestBodies) {
+        this.streamingRequestBodies = streamingRequestBodies;
+        return this;
+    }
+
     /**
      * Get authentications (key: authentication name, value: authentication).
      *
@@ -749,6 +778,16 @@ public class ApiClient {
             return (T) downloadFileFromResponse(response);
         }
 
+        String contentType = response.headers().get("Content-Type");
+        if (contentType == null) {
+            // ensuring a default content type
+            contentType = "application/json";
+        }
+        if (response.body() != null && isJsonMime(contentType) && !returnType.equals(String.class)) {
+            // Stream JSON into the Java object without holding the whole body in memory.
+            return deserializeJson(response.body(), returnType);
+        }
+
         String respBody;
         try {
             if (response.body() != null)
@@ -763,11 +802,6 @@ public class ApiClient {
             return null;
         }
 
-        String contentType = response.headers().get("Content-Type");
-        if (contentType == null) {
-            // ensuring a default content type
-            contentType = "application/json";
-        }
         if (isJsonMime(contentType)) {
             return json.deserialize(respBody, returnType);
         } else if (returnType.equals(String.class)) {
@@ -782,6 +816,39 @@ public class ApiClient {
         }
     }
 
+    /**
+     * Deserialize a JSON response body by reading it as a stream.
+     *
+     * @param <T> Type
+     * @param body The JSON response body, closed by this method
+     * @param returnType The type of the Java object
+     * @return The deserialized Java object, or null if the body is empty
+     * @throws ApiException If fail to read the response body
+     */
+    private <T> T deserializeJson(ResponseBody body, Type returnType) throws ApiException {
+        Reader reader;
+        try {
+            reader = body.charStream();
+        } catch (IOException e) {
+            throw new ApiException(e);
+        }
+        try {
+            return json.deserialize(reader, returnType);
+        } catch (JsonParseException e) {
+            // I/O errors while reading the body are reported by Gson as parse errors
+            if (e.getCause() instanceof IOException) {
+                throw new ApiException(e.getCause());
+            }
+            throw e;
+        } finally {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
     /**
      * Serialize the given Java object into request body according to the object's
      * class and the request Content-Type.
@@ -799,6 +866,9 @@ public class ApiClient {
             // File body parameter support.
             return RequestBody.create(MediaType.parse(contentType), (File) obj);
         } else if (isJsonMime(contentType)) {
+            if (obj != null && streamingRequestBodies) {
+                return new JsonRequestBody(obj, MediaType.parse(contentType));
+            }
             String content;
             if (obj != null) {
                 content = json.serialize(obj);
@@ -811,6 +881,42 @@ public class ApiClient {
         }
     }
 
+    /**
+     * Request body writing an object as JSON directly into the request, without building the JSON string.
+     * The object is serialized again if the request is retried.
+     */
+    private class JsonRequestBody extends RequestBody {
+        private final Object obj;
+        private final MediaType contentType;
+        private final Charset charset;
+
+        JsonRequestBody(Object obj, MediaType contentType) {
+            Charset charset = contentType != null ? contentType.charset() : null;
+            if (charset == null) {
+                // same as RequestBody.create(MediaType, String)
+                charset = Charset.forName("UTF-8");
+                if (contentType != null) {
+                    contentType = MediaType.parse(contentType + "; charset=utf-8");
+                }
+            }
+            this.obj = obj;
+            this.contentType = contentType;
+            this.charset = charset;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            Writer writer = new OutputStreamWriter(sink.outputStream(), charset);
+            json.serialize(obj, writer);
+            writer.flush();
+        }
+    }
+
     /**
      * Download file from the given response.
      *
@@ -78,36 +78,6 @@ pub mod context;
 header! { (Warning, "Warning") => [String] }
 
 mod paths {
-    extern crate regex;
-
-    lazy_static! {
-        pub static ref GLOBAL_REGEX_SET: regex::RegexSet = regex::RegexSet::new(&[
-            r"^/v2/another-fake/dummy$",
-            r"^/v2/fake$",
-            r"^/v2/fake/body-with-query-params$",
-            r"^/v2/fake/inline-additionalProperties$",
-            r"^/v2/fake/jsonFormData$",
-            r"^/v2/fake/outer/boolean$",
-            r"^/v2/fake/outer/composite$",
-            r"^/v2/fake/outer/number$",
-            r"^/v2/fake/outer/string$",
-            r"^/v2/fake_classname_test$",
-            r"^/v2/pet$",
-            r"^/v2/pet/findByStatus$",
-            r"^/v2/pet/findByTags$",
-            r"^/v2/pet/(?P<petId>[^/?#]*)$",
-            r"^/v2/pet/(?P<petId>[^/?#]*)/uploadImage$",
-            r"^/v2/store/inventory$",
-            r"^/v2/store/order$",
-            r"^/v2/store/order/(?P<order_id>[^/?#]*)$",
-            r"^/v2/user$",
-            r"^/v2/user/createWithArray$",
-            r"^/v2/user/createWithList$",
-            r"^/v2/user/login$",
-            r"^/v2/user/logout$",
-            r"^/v2/user/(?P<username>[^/?#]*)$"
-        ]).unwrap();
-    }
     pub static ID_ANOTHER_FAKE_DUMMY: usize = 0;
     pub static ID_FAKE: usize = 1;
     pub static ID_FAKE_BODY_WITH_QUERY_PARAMS: usize = 2;
@@ -122,27 +92,120 @@ mod paths {
     pub static ID_PET_FINDBYSTATUS: usize = 11;
     pub static ID_PET_FINDBYTAGS: usize = 12;
     pub static ID_PET_PETID: usize = 13;
-    lazy_static! {
-        pub static ref REGEX_PET_PETID: regex::Regex = regex::Regex::new(r"^/v2/pet/(?P<petId>[^/?#]*)$").unwrap();
-    }
     pub static ID_PET_PETID_UPLOADIMAGE: usize = 14;
-    lazy_static! {
-        pub static ref REGEX_PET_PETID_UPLOADIMAGE: regex::Regex = regex::Regex::new(r"^/v2/pet/(?P<petId>[^/?#]*)/uploadImage$").unwrap();
-    }
     pub static ID_STORE_INVENTORY: usize = 15;
     pub static ID_STORE_ORDER: usize = 16;
     pub static ID_STORE_ORDER_ORDER_ID: usize = 17;
-    lazy_static! {
-        pub static ref REGEX_STORE_ORDER_ORDER_ID: regex::Regex = regex::Regex::new(r"^/v2/store/order/(?P<order_id>[^/?#]*)$").unwrap();
-    }
     pub static ID_USER: usize = 18;
     pub static ID_USER_CREATEWITHARRAY: usize = 19;
     pub static ID_USER_CREATEWITHLIST: usize = 20;
     pub static ID_USER_LOGIN: usize = 21;
     pub static ID_USER_LOGOUT: usize = 22;
     pub static ID_USER_USERNAME: usize = 23;
-    lazy_static! {
-        pub static ref REGEX_USER_USERNAME: regex::Regex = regex::Regex::new(r"^/v2/user/(?P<username>[^/?#]*)$").unwrap();
+
+    const BASE_PATH: &'static str = "/v2";
+    const MAX_PARAMS: usize = 1;
+
+    /// The path matched by a request, with its path parameters borrowed from the request path.
+    pub struct PathMatch<'a> {
+        id: Option<usize>,
+        params: [&'a str; MAX_PARAMS],
+    }
+
+    impl<'a> PathMatch<'a> {
+        /// Whether the request path matched the path with this ID.
+        pub fn matched(&self, id: usize) -> bool {
+            self.id == Some(id)
+        }
+
+        /// The percent-encoded value of the path parameter at this position in the path.
+        #[allow(dead_code)]
+        pub fn param(&self, index: usize) -> &'a str {
+            self.params[index]
+        }
+    }
+
+    /// A node of the tree of the path segments, matching a static segment or, when `segment` is
+    /// `None`, any segment as a path parameter.
+    struct Node {
+        segment: Option<&'static str>,
+        id: Option<usize>,
+        children: &'static [usize],
+    }
+
+    static ROOT: &'static [usize] = &[0, 2, 11, 12, 17, 21];
+
+    static NODES: &'static [Node] = &[
+        Node { segment: Some("another-fake"), id: None, children: &[1] },
+        Node { segment: Some("dummy"), id: Some(0), children: &[] }, // /another-fake/dummy
+        Node { segment: Some("fake"), id: Some(1), children: &[3, 4, 5, 6] }, // /fake
+        Node { segment: Some("body-with-query-params"), id: Some(2), children: &[] }, // /fake/body-with-query-params
+        Node { segment: Some("inline-additionalProperties"), id: Some(3), children: &[] }, // /fake/inline-additionalProperties
+        Node { segment: Some("jsonFormData"), id: Some(4), children: &[] }, // /fake/jsonFormData
+        Node { segment: Some("outer"), id: None, children: &[7, 8, 9, 10] },
+        Node { segment: Some("boolean"), id: Some(5), children: &[] }, // /fake/outer/boolean
+        Node { segment: Some("composite"), id: Some(6), children: &[] }, // /fake/outer/composite
+        Node { segment: Some("number"), id: Some(7), children: &[] }, // /fake/outer/number
+        Node { segment: Some("string"), id: Some(8), children: &[] }, // /fake/outer/string
+        Node { segment: Some("fake_classname_test"), id: Some(9), children: &[] }, // /fake_classname_test
+        Node { segment: Some("pet"), id: Some(10), children: &[13, 14, 15] }, // /pet
+        Node { segment: Some("findByStatus"), id: Some(11), children: &[] }, // /pet/findByStatus
+        Node { segment: Some("findByTags"), id: Some(12), children: &[] }, // /pet/findByTags
+        Node { segment: None, id: Some(13), children: &[16] }, // /pet/{petId}
+        Node { segment: Some("uploadImage"), id: Some(14), children: &[] }, // /pet/{petId}/uploadImage
+        Node { segment: Some("store"), id: None, children: &[18, 19] },
+        Node { segment: Some("inventory"), id: Some(15), children: &[] }, // /store/inventory
+        Node { segment: Some("order"), id: Some(16), children: &[20] }, // /store/order
+        Node { segment: None, id: Some(17), children: &[] }, // /store/order/{order_id}
+        Node { segment: Some("user"), id: Some(18), children: &[22, 23, 24, 25, 26] }, // /user
+        Node { segment: Some("createWithArray"), id: Some(19), children: &[] }, // /user/createWithArray
+        Node { segment: Some("createWithList"), id: Some(20), children: &[] }, // /user/createWithList
+        Node { segment: Some("login"), id: Some(21), children: &[] }, // /user/login
+        Node { segment: Some("logout"), id: Some(22), children: &[] }, // /user/logout
+        Node { segment: None, id: Some(23), children: &[] }, // /user/{username}
+    ];
+
+    /// Match a request path against the paths of the API, without allocating: its segments are
+    /// looked up in the tree of the path segments, and the path parameters are slices of it.
+    pub fn match_path(path: &str) -> PathMatch {
+        let mut params = [""; MAX_PARAMS];
+        let mut id = None;
+        if path.starts_with(BASE_PATH) {
+            id = match_segments(ROOT, &path[BASE_PATH.len()..], &mut params, 0);
+        }
+        PathMatch { id: id, params: params }
+    }
+
+    /// Match the rest of a request path, starting with a '/', against the children of a node,
+    /// trying the parameter when the rest does not match below a static segment.
+    fn match_segments<'a>(children: &[usize], path: &'a str, params: &mut [&'a str; MAX_PARAMS], count: usize) -> Option<usize> {
+        if !path.starts_with('/') {
+            return None;
+        }
+        let (segment, rest) = match path[1..].find('/') {
+            Some(end) => (&path[1..end + 1], &path[end + 1..]),
+            None => (&path[1..], ""),
+        };
+        for &child in children {
+            let node = &NODES[child];
+            let count = match node.segment {
+                Some(static_segment) if static_segment == segment => count,
+                Some(_) => continue,
+                None => {
+                    params[count] = segment;
+                    count + 1
+                }
+            };
+            let id = if rest.is_empty() {
+                node.id
+            } else {
+                match_segments(node.children, rest, params, count)
+            };
+            if id.is_some() {
+                return id;
+            }
+        }
+        None
     }
 }
 
@@ -203,7 +266,7 @@ where
     fn call(&self, (req, mut context): Self::Request) -> Self::Future {
         let api_impl = self.api_impl.clone();
         let (method, uri, _, headers, body) = req.deconstruct();
-        let path = paths::GLOBAL_REGEX_SET.matches(uri.path());
+        let path = paths::match_path(uri.path());
 
         // This match statement is duplicated below in `parse_operation_id()`.
         // Please update both places if changing how this code is autogenerated.
@@ -216,7 +279,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -303,7 +365,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -387,7 +448,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -471,7 +531,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -555,7 +614,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -638,7 +696,6 @@ where
 
 
 
-
                 // Query parameters (note that non-required or collection query parameters will ignore garbage values, rather than causing a 400 response)
                 let query_params = form_urlencoded::parse(uri.query().unwrap_or_default().as_bytes()).collect::<Vec<_>>();
                 let param_query = query_params.iter().filter(|e| e.0 == "query").map(|e| e.1.to_owned())
@@ -731,7 +788,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -828,7 +884,6 @@ where
 
 
 
-
                 Box::new({
                         {{
 
@@ -893,7 +948,6 @@ where
             &hyper::Method::Get if path.matched(paths::ID_FAKE) => {
 
 
-
                 // Header parameters
                 header! { (RequestEnumHeaderStringArray, "enum_header_string_array") => (String)* }
                 let param_enum_header_string_array = headers.get::<RequestEnumHeaderStringArray>().map(|header| header.0.clone());
@@ -984,7 +1038,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -1064,7 +1117,6 @@ where
 
 
 
-
                 Box::new({
                         {{
 
@@ -1122,7 +1174,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -1236,7 +1287,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -1339,20 +1389,12 @@ where
 
 
                 // Path parameters
-                let path = uri.path().to_string();
-                let path_params =
-                    paths::REGEX_PET_PETID
-                    .captures(&path)
-                    .unwrap_or_else(||
-                        panic!("Path {} matched RE PET_PETID in set but failed match against \"{}\"", path, paths::REGEX_PET_PETID.as_str())
-                    );
-
-                let param_pet_id = match percent_encoding::percent_decode(path_params["petId"].as_bytes()).decode_utf8() {
+                let param_pet_id = match percent_encoding::percent_decode(path.param(0).as_bytes()).decode_utf8() {
                     Ok(param_pet_id) => match param_pet_id.parse::<i64>() {
                         Ok(param_pet_id) => param_pet_id,
                         Err(e) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't parse path parameter petId: {}", e)))),
                     },
-                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", &path_params["petId"]))))
+                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", path.param(0)))))
                 };
 
                 // Header parameters
@@ -1433,7 +1475,6 @@ where
 
 
 
-
                 // Query parameters (note that non-required or collection query parameters will ignore garbage values, rather than causing a 400 response)
                 let query_params = form_urlencoded::parse(uri.query().unwrap_or_default().as_bytes()).collect::<Vec<_>>();
                 let param_status = query_params.iter().filter(|e| e.0 == "status").map(|e| e.1.to_owned())
@@ -1527,7 +1568,6 @@ where
 
 
 
-
                 // Query parameters (note that non-required or collection query parameters will ignore garbage values, rather than causing a 400 response)
                 let query_params = form_urlencoded::parse(uri.query().unwrap_or_default().as_bytes()).collect::<Vec<_>>();
                 let param_tags = query_params.iter().filter(|e| e.0 == "tags").map(|e| e.1.to_owned())
@@ -1602,20 +1642,12 @@ where
 
 
                 // Path parameters
-                let path = uri.path().to_string();
-                let path_params =
-                    paths::REGEX_PET_PETID
-                    .captures(&path)
-                    .unwrap_or_else(||
-                        panic!("Path {} matched RE PET_PETID in set but failed match against \"{}\"", path, paths::REGEX_PET_PETID.as_str())
-                    );
-
-                let param_pet_id = match percent_encoding::percent_decode(path_params["petId"].as_bytes()).decode_utf8() {
+                let param_pet_id = match percent_encoding::percent_decode(path.param(0).as_bytes()).decode_utf8() {
                     Ok(param_pet_id) => match param_pet_id.parse::<i64>() {
                         Ok(param_pet_id) => param_pet_id,
                         Err(e) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't parse path parameter petId: {}", e)))),
                     },
-                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", &path_params["petId"]))))
+                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", path.param(0)))))
                 };
 
 
@@ -1715,7 +1747,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -1832,20 +1863,12 @@ where
 
 
                 // Path parameters
-                let path = uri.path().to_string();
-                let path_params =
-                    paths::REGEX_PET_PETID
-                    .captures(&path)
-                    .unwrap_or_else(||
-                        panic!("Path {} matched RE PET_PETID in set but failed match against \"{}\"", path, paths::REGEX_PET_PETID.as_str())
-                    );
-
-                let param_pet_id = match percent_encoding::percent_decode(path_params["petId"].as_bytes()).decode_utf8() {
+                let param_pet_id = match percent_encoding::percent_decode(path.param(0).as_bytes()).decode_utf8() {
                     Ok(param_pet_id) => match param_pet_id.parse::<i64>() {
                         Ok(param_pet_id) => param_pet_id,
                         Err(e) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't parse path parameter petId: {}", e)))),
                     },
-                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", &path_params["petId"]))))
+                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", path.param(0)))))
                 };
 
 
@@ -1925,20 +1948,12 @@ where
 
 
                 // Path parameters
-                let path = uri.path().to_string();
-                let path_params =
-                    paths::REGEX_PET_PETID_UPLOADIMAGE
-                    .captures(&path)
-                    .unwrap_or_else(||
-                        panic!("Path {} matched RE PET_PETID_UPLOADIMAGE in set but failed match against \"{}\"", path, paths::REGEX_PET_PETID_UPLOADIMAGE.as_str())
-                    );
-
-                let param_pet_id = match percent_encoding::percent_decode(path_params["petId"].as_bytes()).decode_utf8() {
+                let param_pet_id = match percent_encoding::percent_decode(path.param(0).as_bytes()).decode_utf8() {
                     Ok(param_pet_id) => match param_pet_id.parse::<i64>() {
                         Ok(param_pet_id) => param_pet_id,
                         Err(e) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't parse path parameter petId: {}", e)))),
                     },
-                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", &path_params["petId"]))))
+                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", path.param(0)))))
                 };
 
 
@@ -1999,20 +2014,12 @@ where
 
 
                 // Path parameters
-                let path = uri.path().to_string();
-                let path_params =
-                    paths::REGEX_STORE_ORDER_ORDER_ID
-                    .captures(&path)
-                    .unwrap_or_else(||
-                        panic!("Path {} matched RE STORE_ORDER_ORDER_ID in set but failed match against \"{}\"", path, paths::REGEX_STORE_ORDER_ORDER_ID.as_str())
-                    );
-
-                let param_order_id = match percent_encoding::percent_decode(path_params["order_id"].as_bytes()).decode_utf8() {
+                let param_order_id = match percent_encoding::percent_decode(path.param(0).as_bytes()).decode_utf8() {
                     Ok(param_order_id) => match param_order_id.parse::<String>() {
                         Ok(param_order_id) => param_order_id,
                         Err(e) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't parse path parameter order_id: {}", e)))),
                     },
-                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", &path_params["order_id"]))))
+                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", path.param(0)))))
                 };
 
 
@@ -2080,7 +2087,6 @@ where
 
 
 
-
                 Box::new({
                         {{
 
@@ -2131,20 +2137,12 @@ where
 
 
                 // Path parameters
-                let path = uri.path().to_string();
-                let path_params =
-                    paths::REGEX_STORE_ORDER_ORDER_ID
-                    .captures(&path)
-                    .unwrap_or_else(||
-                        panic!("Path {} matched RE STORE_ORDER_ORDER_ID in set but failed match against \"{}\"", path, paths::REGEX_STORE_ORDER_ORDER_ID.as_str())
-                    );
-
-                let param_order_id = match percent_encoding::percent_decode(path_params["order_id"].as_bytes()).decode_utf8() {
+                let param_order_id = match percent_encoding::percent_decode(path.param(0).as_bytes()).decode_utf8() {
                     Ok(param_order_id) => match param_order_id.parse::<i64>() {
                         Ok(param_order_id) => param_order_id,
                         Err(e) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't parse path parameter order_id: {}", e)))),
                     },
-                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", &path_params["order_id"]))))
+                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", path.param(0)))))
                 };
 
 
@@ -2217,7 +2215,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -2311,7 +2308,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -2390,7 +2386,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -2469,7 +2464,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -2546,20 +2540,12 @@ where
 
 
                 // Path parameters
-                let path = uri.path().to_string();
-                let path_params =
-                    paths::REGEX_USER_USERNAME
-                    .captures(&path)
-                    .unwrap_or_else(||
-                        panic!("Path {} matched RE USER_USERNAME in set but failed match against \"{}\"", path, paths::REGEX_USER_USERNAME.as_str())
-                    );
-
-                let param_username = match percent_encoding::percent_decode(path_params["username"].as_bytes()).decode_utf8() {
+                let param_username = match percent_encoding::percent_decode(path.param(0).as_bytes()).decode_utf8() {
                     Ok(param_username) => match param_username.parse::<String>() {
                         Ok(param_username) => param_username,
                         Err(e) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't parse path parameter username: {}", e)))),
                     },
-                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", &path_params["username"]))))
+                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", path.param(0)))))
                 };
 
 
@@ -2615,20 +2601,12 @@ where
 
 
                 // Path parameters
-                let path = uri.path().to_string();
-                let path_params =
-                    paths::REGEX_USER_USERNAME
-                    .captures(&path)
-                    .unwrap_or_else(||
-                        panic!("Path {} matched RE USER_USERNAME in set but failed match against \"{}\"", path, paths::REGEX_USER_USERNAME.as_str())
-                    );
-
-                let param_username = match percent_encoding::percent_decode(path_params["username"].as_bytes()).decode_utf8() {
+                let param_username = match percent_encoding::percent_decode(path.param(0).as_bytes()).decode_utf8() {
                     Ok(param_username) => match param_username.parse::<String>() {
                         Ok(param_username) => param_username,
                         Err(e) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't parse path parameter username: {}", e)))),
                     },
-                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", &path_params["username"]))))
+                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", path.param(0)))))
                 };
 
 
@@ -2700,7 +2678,6 @@ where
 
 
 
-
                 // Query parameters (note that non-required or collection query parameters will ignore garbage values, rather than causing a 400 response)
                 let query_params = form_urlencoded::parse(uri.query().unwrap_or_default().as_bytes()).collect::<Vec<_>>();
                 let param_username = query_params.iter().filter(|e| e.0 == "username").map(|e| e.1.to_owned())
@@ -2795,7 +2772,6 @@ where
 
 
 
-
                 Box::new({
                         {{
 
@@ -2838,20 +2814,12 @@ where
 
 
                 // Path parameters
-                let path = uri.path().to_string();
-                let path_params =
-                    paths::REGEX_USER_USERNAME
-                    .captures(&path)
-                    .unwrap_or_else(||
-                        panic!("Path {} matched RE USER_USERNAME in set but failed match against \"{}\"", path, paths::REGEX_USER_USERNAME.as_str())
-                    );
-
-                let param_username = match percent_encoding::percent_decode(path_params["username"].as_bytes()).decode_utf8() {
+                let param_username = match percent_encoding::percent_decode(path.param(0).as_bytes()).decode_utf8() {
                     Ok(param_username) => match param_username.parse::<String>() {
                         Ok(param_username) => param_username,
                         Err(e) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't parse path parameter username: {}", e)))),
                     },
-                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", &path_params["username"]))))
+                    Err(_) => return Box::new(future::ok(Response::new().with_status(StatusCode::BadRequest).with_body(format!("Couldn't percent-decode path parameter as UTF-8: {}", path.param(0)))))
                 };
 
 
@@ -2954,7 +2922,7 @@ impl<T, C> Clone for Service<T, C>
 pub struct ApiRequestParser;
 impl RequestParser for ApiRequestParser {
     fn parse_operation_id(request: &Request) -> Result<&'static str, ()> {
-        let path = paths::GLOBAL_REGEX_SET.matches(request.uri().path());
+        let path = paths::match_path(request.uri().path());
         match request.method() {
 
             // TestSpecialTags - PATCH /another-fake/dummy
@@ -50,18 +50,90 @@ pub mod context;
 header! { (Warning, "Warning") => [String] }
 
 mod paths {
-    extern crate regex;
-
-    lazy_static! {
-        pub static ref GLOBAL_REGEX_SET: regex::RegexSet = regex::RegexSet::new(&[
-            r"^/dummy$",
-            r"^/file_response$",
-            r"^/html$"
-        ]).unwrap();
-    }
     pub static ID_DUMMY: usize = 0;
     pub static ID_FILE_RESPONSE: usize = 1;
     pub static ID_HTML: usize = 2;
+
+    const BASE_PATH: &'static str = "";
+    const MAX_PARAMS: usize = 0;
+
+    /// The path matched by a request, with its path parameters borrowed from the request path.
+    pub struct PathMatch<'a> {
+        id: Option<usize>,
+        params: [&'a str; MAX_PARAMS],
+    }
+
+    impl<'a> PathMatch<'a> {
+        /// Whether the request path matched the path with this ID.
+        pub fn matched(&self, id: usize) -> bool {
+            self.id == Some(id)
+        }
+
+        /// The percent-encoded value of the path parameter at this position in the path.
+        #[allow(dead_code)]
+        pub fn param(&self, index: usize) -> &'a str {
+            self.params[index]
+        }
+    }
+
+    /// A node of the tree of the path segments, matching a static segment or, when `segment` is
+    /// `None`, any segment as a path parameter.
+    struct Node {
+        segment: Option<&'static str>,
+        id: Option<usize>,
+        children: &'static [usize],
+    }
+
+    static ROOT: &'static [usize] = &[0, 1, 2];
+
+    static NODES: &'static [Node] = &[
+        Node { segment: Some("dummy"), id: Some(0), children: &[] }, // /dummy
+        Node { segment: Some("file_response"), id: Some(1), children: &[] }, // /file_response
+        Node { segment: Some("html"), id: Some(2), children: &[] }, // /html
+    ];
+
+    /// Match a request path against the paths of the API, without allocating: its segments are
+    /// looked up in the tree of the path segments, and the path parameters are slices of it.
+    pub fn match_path(path: &str) -> PathMatch {
+        let mut params = [""; MAX_PARAMS];
+        let mut id = None;
+        if path.starts_with(BASE_PATH) {
+            id = match_segments(ROOT, &path[BASE_PATH.len()..], &mut params, 0);
+        }
+        PathMatch { id: id, params: params }
+    }
+
+    /// Match the rest of a request path, starting with a '/', against the children of a node,
+    /// trying the parameter when the rest does not match below a static segment.
+    fn match_segments<'a>(children: &[usize], path: &'a str, params: &mut [&'a str; MAX_PARAMS], count: usize) -> Option<usize> {
+        if !path.starts_with('/') {
+            return None;
+        }
+        let (segment, rest) = match path[1..].find('/') {
+            Some(end) => (&path[1..end + 1], &path[end + 1..]),
+            None => (&path[1..], ""),
+        };
+        for &child in children {
+            let node = &NODES[child];
+            let count = match node.segment {
+                Some(static_segment) if static_segment == segment => count,
+                Some(_) => continue,
+                None => {
+                    params[count] = segment;
+                    count + 1
+                }
+            };
+            let id = if rest.is_empty() {
+                node.id
+            } else {
+                match_segments(node.children, rest, params, count)
+            };
+            if id.is_some() {
+                return id;
+            }
+        }
+        None
+    }
 }
 
 pub struct NewService<T, C> {
@@ -121,7 +193,7 @@ where
     fn call(&self, (req, mut context): Self::Request) -> Self::Future {
         let api_impl = self.api_impl.clone();
         let (method, uri, _, headers, body) = req.deconstruct();
-        let path = paths::GLOBAL_REGEX_SET.matches(uri.path());
+        let path = paths::match_path(uri.path());
 
         // This match statement is duplicated below in `parse_operation_id()`.
         // Please update both places if changing how this code is autogenerated.
@@ -135,7 +207,6 @@ where
 
 
 
-
                 Box::new({
                         {{
 
@@ -180,7 +251,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -257,7 +327,6 @@ where
 
 
 
-
                 Box::new({
                         {{
 
@@ -310,7 +379,6 @@ where
 
 
 
-
                 // Body parameters (note that non-required body parameters will ignore garbage
                 // values, rather than causing a 400 response). Produce warning header and logs for
                 // any unused fields.
@@ -396,7 +464,7 @@ impl<T, C> Clone for Service<T, C>
 pub struct ApiRequestParser;
 impl RequestParser for ApiRequestParser {
     fn parse_operation_id(request: &Request) -> Result<&'static str, ()> {
-        let path = paths::GLOBAL_REGEX_SET.matches(request.uri().path());
+        let path = paths::match_path(request.uri().path());
         match request.method() {
 
             // DummyGet - GET /dummy